@@ -0,0 +1,32 @@
+-- ============================================
+-- MIGRACIÓN 001: IDs con secuencias pooled - POSTGRESQL
+-- Sustituye las columnas BIGSERIAL por secuencias con incremento 50
+-- (allocationSize de las entidades JPA), necesario para que Hibernate
+-- agrupe los INSERT en lotes JDBC.
+--
+-- Cada secuencia empieza en MAX(id) + 50: Hibernate usa el bloque
+-- (valor - 49 .. valor], así que el primer ID nuevo es MAX(id) + 1.
+-- Ejecutar con la aplicación detenida, antes de desplegar la nueva versión.
+-- ============================================
+
+BEGIN;
+
+-- languages
+CREATE SEQUENCE languages_seq INCREMENT BY 50;
+SELECT setval('languages_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM languages), false);
+ALTER TABLE languages ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS languages_id_seq;
+
+-- users
+CREATE SEQUENCE users_seq INCREMENT BY 50;
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM users), false);
+ALTER TABLE users ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS users_id_seq;
+
+-- user_languages
+CREATE SEQUENCE user_languages_seq INCREMENT BY 50;
+SELECT setval('user_languages_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM user_languages), false);
+ALTER TABLE user_languages ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS user_languages_id_seq;
+
+COMMIT;
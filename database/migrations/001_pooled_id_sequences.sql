@@ -0,0 +1,118 @@
+-- ============================================
+-- MIGRACIÓN 001: IDs con secuencias pooled - AZURE SQL / SQL SERVER
+-- Sustituye las columnas IDENTITY por secuencias con incremento 50
+-- (allocationSize de las entidades JPA), necesario para que Hibernate
+-- agrupe los INSERT en lotes JDBC.
+--
+-- SQL Server no permite quitar IDENTITY con ALTER COLUMN: cada tabla se
+-- copia a una tabla nueva sin IDENTITY (SELECT INTO con UNION ALL no
+-- conserva la propiedad IDENTITY), se renombra y se recrean sus
+-- restricciones. Las claves primarias, únicas e índices se recrean con
+-- los nombres de schema.sql.
+--
+-- DROP TABLE falla mientras otra tabla tenga una FK hacia ella. Las FKs
+-- que apuntan a languages y users (user_languages, la de user_roles
+-- generada por Hibernate y cualquier otra) se leen de sys.foreign_keys con
+-- el nombre que tengan en la base de datos desplegada, se eliminan antes de
+-- copiar las tablas y se recrean con la misma definición al final.
+--
+-- Cada secuencia empieza en MAX(id) + 50: Hibernate usa el bloque
+-- (valor - 49 .. valor], así que el primer ID nuevo es MAX(id) + 1.
+-- Ejecutar con la aplicación detenida, antes de desplegar la nueva versión.
+-- ============================================
+
+SET XACT_ABORT ON;
+BEGIN TRANSACTION;
+
+DECLARE @sql NVARCHAR(MAX);
+
+-- FKs que apuntan a las tablas que se copian: definición completa, columnas en orden
+SELECT fk.name AS fk_name,
+       OBJECT_SCHEMA_NAME(fk.parent_object_id) AS parent_schema,
+       OBJECT_NAME(fk.parent_object_id) AS parent_table,
+       (SELECT STRING_AGG(QUOTENAME(COL_NAME(fkc.parent_object_id, fkc.parent_column_id)), ', ')
+                   WITHIN GROUP (ORDER BY fkc.constraint_column_id)
+          FROM sys.foreign_key_columns fkc
+         WHERE fkc.constraint_object_id = fk.object_id) AS parent_columns,
+       OBJECT_SCHEMA_NAME(fk.referenced_object_id) AS referenced_schema,
+       OBJECT_NAME(fk.referenced_object_id) AS referenced_table,
+       (SELECT STRING_AGG(QUOTENAME(COL_NAME(fkc.referenced_object_id, fkc.referenced_column_id)), ', ')
+                   WITHIN GROUP (ORDER BY fkc.constraint_column_id)
+          FROM sys.foreign_key_columns fkc
+         WHERE fkc.constraint_object_id = fk.object_id) AS referenced_columns,
+       REPLACE(fk.delete_referential_action_desc, '_', ' ') AS on_delete,
+       REPLACE(fk.update_referential_action_desc, '_', ' ') AS on_update
+INTO #foreign_keys
+FROM sys.foreign_keys fk
+WHERE fk.referenced_object_id IN (OBJECT_ID('languages'), OBJECT_ID('users'));
+
+-- Comprobación: ver qué FKs se van a eliminar y recrear
+SELECT * FROM #foreign_keys;
+
+SELECT @sql = STRING_AGG(CAST('ALTER TABLE ' + QUOTENAME(parent_schema) + '.' + QUOTENAME(parent_table)
+    + ' DROP CONSTRAINT ' + QUOTENAME(fk_name) AS NVARCHAR(MAX)), '; ')
+FROM #foreign_keys;
+IF @sql IS NOT NULL EXEC sp_executesql @sql;
+
+-- languages
+SELECT * INTO languages_new FROM languages WHERE 1 = 0
+UNION ALL SELECT * FROM languages WHERE 1 = 0;
+INSERT INTO languages_new SELECT * FROM languages;
+DROP TABLE languages;
+EXEC sp_rename 'languages_new', 'languages';
+ALTER TABLE languages ALTER COLUMN id BIGINT NOT NULL;
+ALTER TABLE languages ADD CONSTRAINT pk_languages PRIMARY KEY (id);
+ALTER TABLE languages ADD CONSTRAINT uk_languages_name UNIQUE (name);
+ALTER TABLE languages ADD CONSTRAINT uk_languages_code UNIQUE (code);
+CREATE INDEX idx_languages_code ON languages(code);
+CREATE INDEX idx_languages_is_starting ON languages(is_starting_language);
+
+-- users
+SELECT * INTO users_new FROM users WHERE 1 = 0
+UNION ALL SELECT * FROM users WHERE 1 = 0;
+INSERT INTO users_new SELECT * FROM users;
+DROP TABLE users;
+EXEC sp_rename 'users_new', 'users';
+ALTER TABLE users ALTER COLUMN id BIGINT NOT NULL;
+ALTER TABLE users ADD CONSTRAINT pk_users PRIMARY KEY (id);
+CREATE UNIQUE INDEX idx_users_email ON users(email);
+CREATE INDEX idx_users_is_active ON users(is_active);
+CREATE INDEX idx_users_created_at ON users(created_at DESC);
+
+-- user_languages
+SELECT * INTO user_languages_new FROM user_languages WHERE 1 = 0
+UNION ALL SELECT * FROM user_languages WHERE 1 = 0;
+INSERT INTO user_languages_new SELECT * FROM user_languages;
+DROP TABLE user_languages;
+EXEC sp_rename 'user_languages_new', 'user_languages';
+ALTER TABLE user_languages ALTER COLUMN id BIGINT NOT NULL;
+ALTER TABLE user_languages ADD CONSTRAINT pk_user_languages PRIMARY KEY (id);
+ALTER TABLE user_languages ADD CONSTRAINT uk_user_language UNIQUE (user_id, language_id);
+CREATE INDEX idx_user_languages_user_id ON user_languages(user_id);
+CREATE INDEX idx_user_languages_language_id ON user_languages(language_id);
+CREATE INDEX idx_user_languages_is_native ON user_languages(user_id, is_native);
+
+-- Se recrean las FKs eliminadas al principio (fk_user_languages_user,
+-- fk_user_languages_language, la de user_roles...) con su nombre y acciones originales
+SELECT @sql = STRING_AGG(CAST('ALTER TABLE ' + QUOTENAME(parent_schema) + '.' + QUOTENAME(parent_table)
+    + ' ADD CONSTRAINT ' + QUOTENAME(fk_name)
+    + ' FOREIGN KEY (' + parent_columns + ')'
+    + ' REFERENCES ' + QUOTENAME(referenced_schema) + '.' + QUOTENAME(referenced_table)
+    + ' (' + referenced_columns + ')'
+    + ' ON DELETE ' + on_delete + ' ON UPDATE ' + on_update AS NVARCHAR(MAX)), '; ')
+FROM #foreign_keys;
+IF @sql IS NOT NULL EXEC sp_executesql @sql;
+DROP TABLE #foreign_keys;
+
+-- Secuencias: CREATE SEQUENCE solo acepta constantes, se construye con SQL dinámico
+SELECT @sql = 'CREATE SEQUENCE languages_seq AS BIGINT START WITH '
+    + CAST(COALESCE(MAX(id), 0) + 50 AS NVARCHAR(20)) + ' INCREMENT BY 50' FROM languages;
+EXEC sp_executesql @sql;
+SELECT @sql = 'CREATE SEQUENCE users_seq AS BIGINT START WITH '
+    + CAST(COALESCE(MAX(id), 0) + 50 AS NVARCHAR(20)) + ' INCREMENT BY 50' FROM users;
+EXEC sp_executesql @sql;
+SELECT @sql = 'CREATE SEQUENCE user_languages_seq AS BIGINT START WITH '
+    + CAST(COALESCE(MAX(id), 0) + 50 AS NVARCHAR(20)) + ' INCREMENT BY 50' FROM user_languages;
+EXEC sp_executesql @sql;
+
+COMMIT TRANSACTION;
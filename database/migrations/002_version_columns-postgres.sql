@@ -0,0 +1,13 @@
+-- ============================================
+-- MIGRACIÓN 002: columnas de versión - POSTGRESQL
+-- Añade la columna version (control de concurrencia optimista) a users y
+-- user_languages. Las filas existentes empiezan en la versión 0.
+-- Puede ejecutarse con la aplicación en marcha, antes de desplegar la nueva versión.
+-- ============================================
+
+BEGIN;
+
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE user_languages ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMIT;
@@ -0,0 +1,15 @@
+-- ============================================
+-- MIGRACIÓN 002: columnas de versión - AZURE SQL / SQL SERVER
+-- Añade la columna version (control de concurrencia optimista) a users y
+-- user_languages. Las filas existentes empiezan en la versión 0.
+-- Puede ejecutarse con la aplicación en marcha, antes de desplegar la nueva versión.
+-- ============================================
+
+BEGIN TRANSACTION;
+
+ALTER TABLE users ADD version BIGINT NOT NULL
+    CONSTRAINT df_users_version DEFAULT 0;
+ALTER TABLE user_languages ADD version BIGINT NOT NULL
+    CONSTRAINT df_user_languages_version DEFAULT 0;
+
+COMMIT TRANSACTION;
@@ -0,0 +1,16 @@
+-- ============================================
+-- MIGRACIÓN 003: un solo idioma nativo por usuario - POSTGRESQL
+-- La base de datos garantiza la regla que antes solo comprobaba la
+-- aplicación. Restricción de exclusión diferible en lugar de índice único
+-- parcial: el cambio de idioma nativo actualiza las dos filas en una sola
+-- sentencia y un índice único se comprobaría fila a fila. INITIALLY IMMEDIATE
+-- la comprueba al final de cada sentencia, no al hacer COMMIT: la violación
+-- llega a la sentencia que la provoca y la aplicación puede reintentar.
+--
+-- Falla si algún usuario ya tiene varios idiomas nativos; localizarlos con:
+--   SELECT user_id FROM user_languages WHERE is_native GROUP BY user_id HAVING COUNT(*) > 1;
+-- ============================================
+
+ALTER TABLE user_languages ADD CONSTRAINT uk_user_languages_single_native
+    EXCLUDE USING btree (user_id WITH =) WHERE (is_native)
+    DEFERRABLE INITIALLY IMMEDIATE;
@@ -0,0 +1,12 @@
+-- ============================================
+-- MIGRACIÓN 003: un solo idioma nativo por usuario - AZURE SQL / SQL SERVER
+-- La base de datos garantiza la regla que antes solo comprobaba la
+-- aplicación. SQL Server comprueba los índices únicos al final de cada
+-- sentencia, así que el cambio de idioma nativo en un solo UPDATE es válido.
+--
+-- Falla si algún usuario ya tiene varios idiomas nativos; localizarlos con:
+--   SELECT user_id FROM user_languages WHERE is_native = 1 GROUP BY user_id HAVING COUNT(*) > 1;
+-- ============================================
+
+CREATE UNIQUE INDEX uk_user_languages_single_native
+    ON user_languages(user_id) WHERE is_native = 1;
@@ -7,13 +7,28 @@
 DROP TABLE IF EXISTS user_languages CASCADE;
 DROP TABLE IF EXISTS users CASCADE;
 DROP TABLE IF EXISTS languages CASCADE;
+DROP SEQUENCE IF EXISTS user_languages_seq;
+DROP SEQUENCE IF EXISTS users_seq;
+DROP SEQUENCE IF EXISTS languages_seq;
+
+-- ============================================
+-- SECUENCIAS DE IDs
+-- La aplicación reserva IDs por bloques de 50 (Hibernate pooled), lo que
+-- permite agrupar los INSERT en lotes JDBC. El INCREMENT debe coincidir con
+-- el allocationSize de las entidades. Los IDs no tienen valor por defecto:
+-- los INSERT manuales deben tomar el ID de la secuencia (nextval('users_seq')),
+-- cada valor obtenido así ocupa un bloque completo.
+-- ============================================
+CREATE SEQUENCE languages_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE user_languages_seq START WITH 1 INCREMENT BY 50;
 
 -- ============================================
 -- TABLA: languages
 -- Catálogo de idiomas disponibles
 -- ============================================
 CREATE TABLE languages (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     name VARCHAR(100) NOT NULL UNIQUE,
     code VARCHAR(10) NOT NULL UNIQUE,
     native_name VARCHAR(100) NOT NULL,
@@ -32,7 +47,7 @@ CREATE INDEX idx_languages_is_starting ON languages(is_starting_language);
 -- Información de usuarios registrados
 -- ============================================
 CREATE TABLE users (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     email VARCHAR(255) NOT NULL UNIQUE,
     password VARCHAR(255) NOT NULL,  -- BCrypt hashed
     first_name VARCHAR(100) NOT NULL,
@@ -41,7 +56,8 @@ CREATE TABLE users (
     is_active BOOLEAN NOT NULL DEFAULT TRUE,
     role VARCHAR(20) NOT NULL DEFAULT 'USER',  -- USER, ADMIN
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0  -- Control de concurrencia optimista
 );
 
 -- Índices para búsquedas frecuentes
@@ -54,11 +70,12 @@ CREATE INDEX idx_users_created_at ON users(created_at DESC);
 -- Relación muchos a muchos entre usuarios e idiomas
 -- ============================================
 CREATE TABLE user_languages (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     user_id BIGINT NOT NULL,
     language_id BIGINT NOT NULL,
     is_native BOOLEAN NOT NULL DEFAULT FALSE,
     added_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,  -- Control de concurrencia optimista
 
     -- Foreign Keys
     CONSTRAINT fk_user_languages_user
@@ -81,6 +98,17 @@ CREATE INDEX idx_user_languages_user_id ON user_languages(user_id);
 CREATE INDEX idx_user_languages_language_id ON user_languages(language_id);
 CREATE INDEX idx_user_languages_is_native ON user_languages(user_id, is_native);
 
+-- Un solo idioma nativo por usuario. Equivale a un índice único parcial sobre
+-- (user_id) WHERE is_native, pero diferible: el cambio de idioma nativo marca
+-- el nuevo y desmarca el anterior en la misma sentencia, y una restricción no
+-- diferible se comprobaría fila a fila a mitad de la sentencia. INITIALLY
+-- IMMEDIATE la comprueba al final de cada sentencia (no al hacer COMMIT), de
+-- modo que la violación por un cambio simultáneo llega al adaptador, que la
+-- traduce a ConcurrentUpdateException y el caso de uso se reintenta.
+ALTER TABLE user_languages ADD CONSTRAINT uk_user_languages_single_native
+    EXCLUDE USING btree (user_id WITH =) WHERE (is_native)
+    DEFERRABLE INITIALLY IMMEDIATE;
+
 -- ============================================
 -- TRIGGERS PARA UPDATED_AT
 -- ============================================
@@ -7,13 +7,28 @@
 DROP TABLE IF EXISTS user_languages;
 DROP TABLE IF EXISTS users;
 DROP TABLE IF EXISTS languages;
+DROP SEQUENCE IF EXISTS user_languages_seq;
+DROP SEQUENCE IF EXISTS users_seq;
+DROP SEQUENCE IF EXISTS languages_seq;
+
+-- ============================================
+-- SECUENCIAS DE IDs
+-- La aplicación reserva IDs por bloques de 50 (Hibernate pooled), lo que
+-- permite agrupar los INSERT en lotes JDBC. El INCREMENT debe coincidir con
+-- el allocationSize de las entidades. Los IDs no tienen valor por defecto:
+-- los INSERT manuales deben tomar el ID de la secuencia (NEXT VALUE FOR users_seq),
+-- cada valor obtenido así ocupa un bloque completo.
+-- ============================================
+CREATE SEQUENCE languages_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE user_languages_seq START WITH 1 INCREMENT BY 50;
 
 -- ============================================
 -- TABLA: languages
 -- Catálogo de idiomas disponibles
 -- ============================================
 CREATE TABLE languages (
-    id BIGINT PRIMARY KEY IDENTITY(1,1),
+    id BIGINT PRIMARY KEY,
     name NVARCHAR(100) NOT NULL UNIQUE,
     code NVARCHAR(10) NOT NULL UNIQUE,
     native_name NVARCHAR(100) NOT NULL,
@@ -32,7 +47,7 @@ CREATE INDEX idx_languages_is_starting ON languages(is_starting_language);
 -- Información de usuarios registrados
 -- ============================================
 CREATE TABLE users (
-    id BIGINT PRIMARY KEY IDENTITY(1,1),
+    id BIGINT PRIMARY KEY,
     email NVARCHAR(255) NOT NULL UNIQUE,
     password NVARCHAR(255) NOT NULL,  -- BCrypt hashed
     first_name NVARCHAR(100) NOT NULL,
@@ -41,7 +56,8 @@ CREATE TABLE users (
     is_active BIT NOT NULL DEFAULT 1,
     role NVARCHAR(20) NOT NULL DEFAULT 'USER',  -- USER, ADMIN
     created_at DATETIME2 NOT NULL DEFAULT GETDATE(),
-    updated_at DATETIME2 NOT NULL DEFAULT GETDATE()
+    updated_at DATETIME2 NOT NULL DEFAULT GETDATE(),
+    version BIGINT NOT NULL DEFAULT 0  -- Control de concurrencia optimista
 );
 
 -- Índices para búsquedas frecuentes
@@ -54,11 +70,12 @@ CREATE INDEX idx_users_created_at ON users(created_at DESC);
 -- Relación muchos a muchos entre usuarios e idiomas
 -- ============================================
 CREATE TABLE user_languages (
-    id BIGINT PRIMARY KEY IDENTITY(1,1),
+    id BIGINT PRIMARY KEY,
     user_id BIGINT NOT NULL,
     language_id BIGINT NOT NULL,
     is_native BIT NOT NULL DEFAULT 0,
     added_at DATETIME2 NOT NULL DEFAULT GETDATE(),
+    version BIGINT NOT NULL DEFAULT 0,  -- Control de concurrencia optimista
 
     -- Foreign Keys
     CONSTRAINT fk_user_languages_user
@@ -81,6 +98,9 @@ CREATE INDEX idx_user_languages_user_id ON user_languages(user_id);
 CREATE INDEX idx_user_languages_language_id ON user_languages(language_id);
 CREATE INDEX idx_user_languages_is_native ON user_languages(user_id, is_native);
 
+-- Un solo idioma nativo por usuario (índice filtrado: solo las filas nativas)
+CREATE UNIQUE INDEX uk_user_languages_single_native ON user_languages(user_id) WHERE is_native = 1;
+
 -- ============================================
 -- TRIGGERS PARA UPDATED_AT (Opcional)
 -- ============================================
@@ -0,0 +1,78 @@
+package com.yourteacher.userservice.benchmark;
+
+import com.yourteacher.userservice.domain.model.AuthProvider;
+import com.yourteacher.userservice.domain.model.Language;
+import com.yourteacher.userservice.domain.model.Role;
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserLanguage;
+import com.yourteacher.userservice.domain.model.UserStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Datos de prueba compartidos por los benchmarks
+ * Representan un usuario típico: dos roles y cinco idiomas (uno nativo)
+ */
+final class BenchmarkFixtures {
+
+    static final int LANGUAGES_PER_USER = 5;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user() {
+        return User.builder()
+                .id(42L)
+                .email("ana.lopez@example.com")
+                .password("$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")
+                .firstName("Ana")
+                .lastName("López")
+                .avatarSeed("7f3c2a9e-5b1d-4e8f-9a6c-0d2b4e6f8a1c")
+                .roles(EnumSet.of(Role.STUDENT, Role.ADMIN))
+                .status(UserStatus.ACTIVE)
+                .authProvider(AuthProvider.LOCAL)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT.plusDays(3))
+                .version(3L)
+                .build();
+    }
+
+    static List<UserLanguage> userLanguages() {
+        List<UserLanguage> userLanguages = new ArrayList<>(LANGUAGES_PER_USER);
+        for (long i = 1; i <= LANGUAGES_PER_USER; i++) {
+            userLanguages.add(UserLanguage.builder()
+                    .id(100 + i)
+                    .userId(42L)
+                    .languageId(i)
+                    .isNative(i == 1)
+                    .addedAt(CREATED_AT.plusHours(i))
+                    .version(0L)
+                    .build());
+        }
+        return userLanguages;
+    }
+
+    static Map<Long, Language> languagesById() {
+        String[][] catalog = {
+                {"Español", "es"}, {"English", "en"}, {"Français", "fr"}, {"Deutsch", "de"}, {"Italiano", "it"}
+        };
+        Map<Long, Language> languages = new LinkedHashMap<>();
+        for (int i = 0; i < catalog.length; i++) {
+            long id = i + 1;
+            languages.put(id, Language.builder()
+                    .id(id)
+                    .name(catalog[i][0])
+                    .code(catalog[i][1])
+                    .flagUrl("https://flagcdn.com/" + catalog[i][1] + ".svg")
+                    .createdAt(CREATED_AT)
+                    .build());
+        }
+        return languages;
+    }
+}
@@ -0,0 +1,44 @@
+package com.yourteacher.userservice.benchmark;
+
+import com.yourteacher.userservice.domain.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la validación del email del dominio (User.hasValidEmail)
+ * Se ejecuta en cada registro y en cada fila de una importación masiva
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailValidationBenchmark {
+
+    @Param({"ana.lopez@example.com", "not-an-email", "very.long.local.part.with.many.dots.and+tags@sub.domain.example.com"})
+    private String email;
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = User.builder().email(email).build();
+    }
+
+    @Benchmark
+    public boolean hasValidEmail() {
+        return user.hasValidEmail();
+    }
+}
@@ -0,0 +1,80 @@
+package com.yourteacher.userservice.benchmark;
+
+import com.yourteacher.userservice.adapter.in.web.dto.UserLanguageResponse;
+import com.yourteacher.userservice.adapter.in.web.dto.UserResponse;
+import com.yourteacher.userservice.adapter.in.web.mapper.LanguageDtoMapper;
+import com.yourteacher.userservice.adapter.in.web.mapper.UserDtoMapper;
+import com.yourteacher.userservice.adapter.in.web.mapper.UserLanguageDtoMapper;
+import com.yourteacher.userservice.adapter.out.persistence.entity.UserEntity;
+import com.yourteacher.userservice.adapter.out.persistence.mapper.UserMapper;
+import com.yourteacher.userservice.domain.model.Language;
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserLanguage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de las conversiones entre entidades, dominio y DTOs
+ * que se ejecutan en cada lectura de usuario y de sus idiomas
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private UserMapper userMapper;
+    private UserDtoMapper userDtoMapper;
+    private UserLanguageDtoMapper userLanguageDtoMapper;
+
+    private User user;
+    private UserEntity userEntity;
+    private List<UserLanguage> userLanguages;
+    private Map<Long, Language> languagesById;
+
+    @Setup
+    public void setUp() {
+        userMapper = new UserMapper();
+        userDtoMapper = new UserDtoMapper();
+        userLanguageDtoMapper = new UserLanguageDtoMapper(new LanguageDtoMapper());
+
+        user = BenchmarkFixtures.user();
+        userEntity = userMapper.toEntity(user);
+        userLanguages = BenchmarkFixtures.userLanguages();
+        languagesById = BenchmarkFixtures.languagesById();
+    }
+
+    @Benchmark
+    public User userEntityToDomain() {
+        return userMapper.toDomain(userEntity);
+    }
+
+    @Benchmark
+    public UserEntity userToEntity() {
+        return userMapper.toEntity(user);
+    }
+
+    @Benchmark
+    public UserResponse userToResponse() {
+        return userDtoMapper.toResponse(user);
+    }
+
+    @Benchmark
+    public List<UserLanguageResponse> userLanguagesToResponseList() {
+        return userLanguageDtoMapper.toResponseList(userLanguages, languagesById);
+    }
+}
@@ -0,0 +1,75 @@
+package com.yourteacher.userservice.benchmark;
+
+import com.yourteacher.userservice.adapter.out.security.BcryptPasswordEncoderAdapter;
+import com.yourteacher.userservice.adapter.out.security.BcryptStrengthCalibrator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la verificación de contraseñas con distintos costes BCrypt
+ *
+ * matches pasa por el pool de hashing del adaptador; matchesDirect llama a
+ * BCrypt en el hilo del benchmark y sirve de referencia para medir el coste
+ * del pool (cola, cambio de hilo y métricas).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    private static final String RAW_PASSWORD = "correct horse battery staple";
+
+    @Param({"10", "11", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder bCryptPasswordEncoder;
+    private BcryptPasswordEncoderAdapter passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        bCryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+        passwordEncoder = new BcryptPasswordEncoderAdapter(
+                bCryptPasswordEncoder,
+                new BcryptStrengthCalibrator(strength, Duration.ZERO, strength, strength, false),
+                new SimpleMeterRegistry(),
+                1,
+                100,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(1));
+        encodedPassword = bCryptPasswordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public boolean matchesDirect() {
+        return bCryptPasswordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
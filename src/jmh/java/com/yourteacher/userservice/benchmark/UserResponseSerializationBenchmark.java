@@ -0,0 +1,58 @@
+package com.yourteacher.userservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourteacher.userservice.adapter.in.web.dto.UserResponse;
+import com.yourteacher.userservice.adapter.in.web.mapper.LanguageDtoMapper;
+import com.yourteacher.userservice.adapter.in.web.mapper.UserDtoMapper;
+import com.yourteacher.userservice.adapter.in.web.mapper.UserLanguageDtoMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la serialización JSON de UserResponse
+ * Usa un ObjectMapper configurado como el de Spring Boot (módulo de fechas de Java 8)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private UserResponse user;
+    private UserResponse profile;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        user = new UserDtoMapper().toResponse(BenchmarkFixtures.user());
+        profile = new UserDtoMapper().toResponse(BenchmarkFixtures.user());
+        profile.setLanguages(new UserLanguageDtoMapper(new LanguageDtoMapper())
+                .toResponseList(BenchmarkFixtures.userLanguages(), BenchmarkFixtures.languagesById()));
+    }
+
+    @Benchmark
+    public byte[] serializeUser() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] serializeProfileWithLanguages() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(profile);
+    }
+}
@@ -2,12 +2,16 @@ package com.yourteacher.userservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
 /**
  * Clase principal de la aplicación User Service
  * Microservicio de gestión de usuarios con arquitectura hexagonal
+ *
+ * R2dbcAutoConfiguration se excluye: su ConnectionFactory desactivaría el
+ * DataSource JDBC. La ruta de lectura reactiva crea su propio pool (ReactiveReadConfig).
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class UserServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,163 @@
+package com.yourteacher.userservice.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourteacher.userservice.adapter.in.web.mapper.LanguageDtoMapper;
+import com.yourteacher.userservice.domain.model.Language;
+import com.yourteacher.userservice.domain.model.LanguageCatalogVersion;
+import com.yourteacher.userservice.domain.port.in.GetLanguageCatalogUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Respuestas del catálogo de idiomas ya serializadas (JSON y JSON comprimido con gzip)
+ *
+ * Se generan una vez por versión del catálogo, con el mismo ObjectMapper que usa
+ * Spring MVC, y se reutilizan en cada petición sin mapear ni serializar. Si la
+ * versión del catálogo cambia, la siguiente petición vuelve a generarlas.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class LanguageCatalogResponses {
+
+    private final GetLanguageCatalogUseCase getLanguageCatalog;
+    private final LanguageDtoMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    private volatile Rendered rendered;
+    // Lock en lugar de synchronized: no fija hilos virtuales a su portador mientras se serializa
+    private final ReentrantLock renderLock = new ReentrantLock();
+
+    /**
+     * Cuerpo de una respuesta del catálogo, sin comprimir y comprimido
+     *
+     * @param json JSON sin comprimir
+     * @param gzip JSON comprimido con gzip, o null si no es más pequeño que el original
+     * @param version Versión del catálogo con la que se generó
+     */
+    record Body(byte[] json, byte[] gzip, LanguageCatalogVersion version) {
+    }
+
+    private record Rendered(
+            LanguageCatalogVersion version,
+            Body all,
+            Body starting,
+            Map<Long, Body> byId,
+            Map<String, Body> byCode) {
+    }
+
+    /**
+     * Genera las respuestas al arrancar para que la primera petición no pague la serialización
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        current();
+    }
+
+    Body all() {
+        return current().all();
+    }
+
+    Body starting() {
+        return current().starting();
+    }
+
+    Optional<Body> byId(Long id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    Optional<Body> byCode(String code) {
+        return code == null
+                ? Optional.empty()
+                : Optional.ofNullable(current().byCode().get(code.toLowerCase(Locale.ROOT)));
+    }
+
+    private Rendered current() {
+        LanguageCatalogVersion version = getLanguageCatalog.getCatalogVersion();
+        Rendered current = rendered;
+        if (current != null && current.version().getTag().equals(version.getTag())) {
+            return current;
+        }
+        renderLock.lock();
+        try {
+            current = rendered;
+            if (current == null || !current.version().getTag().equals(version.getTag())) {
+                current = render(version);
+                rendered = current;
+            }
+            return current;
+        } finally {
+            renderLock.unlock();
+        }
+    }
+
+    /**
+     * Serializa el catálogo completo, los idiomas recomendados y cada idioma
+     * La versión se lee antes que los datos (ver LanguageController)
+     */
+    private Rendered render(LanguageCatalogVersion version) {
+        List<Language> languages = getLanguageCatalog.getAllLanguages();
+        List<Language> starting = getLanguageCatalog.getStartingLanguages();
+
+        Map<Long, Body> byId = new HashMap<>();
+        Map<String, Body> byCode = new HashMap<>();
+        for (Language language : languages) {
+            Body body = body(mapper.toResponse(language), version);
+            byId.put(language.getId(), body);
+            if (language.getCode() != null) {
+                byCode.putIfAbsent(language.getCode().toLowerCase(Locale.ROOT), body);
+            }
+        }
+
+        Rendered result = new Rendered(
+                version,
+                body(mapper.toResponseList(languages), version),
+                body(mapper.toResponseList(starting), version),
+                Map.copyOf(byId),
+                Map.copyOf(byCode));
+        log.info("Language catalog responses rendered for version {}: {} bytes ({} gzip)",
+                version.getTag(), result.all().json().length,
+                result.all().gzip() != null ? result.all().gzip().length : "-");
+        return result;
+    }
+
+    private Body body(Object response, LanguageCatalogVersion version) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            byte[] gzip = gzip(json);
+            return new Body(json, gzip.length < json.length ? gzip : null, version);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el catálogo de idiomas", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(data.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+}
@@ -3,40 +3,69 @@ package com.yourteacher.userservice.adapter.in.web;
 import com.yourteacher.userservice.adapter.in.web.dto.LanguageResponse;
 import com.yourteacher.userservice.adapter.in.web.mapper.LanguageDtoMapper;
 import com.yourteacher.userservice.domain.port.in.GetLanguageCatalogUseCase;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
  * Controlador REST para operaciones de catálogo de idiomas
  * Adapter Layer - Primary Adapter (Input)
+ *
+ * Las lecturas del catálogo son cacheables: llevan ETag (versión del catálogo)
+ * y Cache-Control público. Spring responde 304 Not Modified sin cuerpo cuando
+ * If-None-Match coincide con la versión actual. No llevan Last-Modified: el
+ * ETag es igual en todas las instancias y una fecha no reflejaría los borrados.
+ * La búsqueda no se cachea (autocompletado, un resultado distinto por cada texto).
+ *
+ * Los cuerpos del catálogo se escriben ya serializados (LanguageCatalogResponses),
+ * comprimidos con gzip si el cliente lo acepta.
  */
 @RestController
 @RequestMapping("/api/v1/languages")
-@RequiredArgsConstructor
 public class LanguageController {
 
+    private static final String GZIP = "gzip";
+
     private final GetLanguageCatalogUseCase getLanguageCatalog;
+    private final LanguageCatalogResponses catalogResponses;
     private final LanguageDtoMapper mapper;
+    private final CacheControl cacheControl;
+
+    public LanguageController(
+            GetLanguageCatalogUseCase getLanguageCatalog,
+            LanguageCatalogResponses catalogResponses,
+            LanguageDtoMapper mapper,
+            @Value("${catalog.http-cache.max-age:PT1H}") Duration maxAge) {
+        this.getLanguageCatalog = getLanguageCatalog;
+        this.catalogResponses = catalogResponses;
+        this.mapper = mapper;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
 
     /**
      * GET /api/v1/languages - Obtener todos los idiomas disponibles
      */
     @GetMapping
-    public ResponseEntity<List<LanguageResponse>> getAllLanguages() {
-        var languages = getLanguageCatalog.getAllLanguages();
-        return ResponseEntity.ok(mapper.toResponseList(languages));
+    public ResponseEntity<byte[]> getAllLanguages(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return cacheable(catalogResponses.all(), acceptEncoding);
     }
 
     /**
      * GET /api/v1/languages/{id} - Obtener idioma por ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<LanguageResponse> getLanguageById(@PathVariable Long id) {
-        return getLanguageCatalog.getLanguageById(id)
-                .map(language -> ResponseEntity.ok(mapper.toResponse(language)))
+    public ResponseEntity<byte[]> getLanguageById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return catalogResponses.byId(id)
+                .map(body -> cacheable(body, acceptEncoding))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -44,9 +73,11 @@ public class LanguageController {
      * GET /api/v1/languages/code/{code} - Obtener idioma por código ISO
      */
     @GetMapping("/code/{code}")
-    public ResponseEntity<LanguageResponse> getLanguageByCode(@PathVariable String code) {
-        return getLanguageCatalog.getLanguageByCode(code)
-                .map(language -> ResponseEntity.ok(mapper.toResponse(language)))
+    public ResponseEntity<byte[]> getLanguageByCode(
+            @PathVariable String code,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return catalogResponses.byCode(code)
+                .map(body -> cacheable(body, acceptEncoding))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -54,17 +85,20 @@ public class LanguageController {
      * GET /api/v1/languages/starting - Obtener idiomas recomendados para empezar
      */
     @GetMapping("/starting")
-    public ResponseEntity<List<LanguageResponse>> getStartingLanguages() {
-        var languages = getLanguageCatalog.getStartingLanguages();
-        return ResponseEntity.ok(mapper.toResponseList(languages));
+    public ResponseEntity<byte[]> getStartingLanguages(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return cacheable(catalogResponses.starting(), acceptEncoding);
     }
 
     /**
-     * GET /api/v1/languages/search?q={query} - Buscar idiomas por nombre
+     * GET /api/v1/languages/search?q={query}&limit={limit} - Buscar idiomas por nombre, nombre nativo o código
+     * Resultados ordenados por relevancia, pensado para autocompletado
      */
     @GetMapping("/search")
-    public ResponseEntity<List<LanguageResponse>> searchLanguages(@RequestParam("q") String query) {
-        var languages = getLanguageCatalog.searchLanguagesByName(query);
+    public ResponseEntity<List<LanguageResponse>> searchLanguages(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "" + GetLanguageCatalogUseCase.DEFAULT_SEARCH_LIMIT) int limit) {
+        var languages = getLanguageCatalog.searchLanguagesByName(query, limit);
         return ResponseEntity.ok(mapper.toResponseList(languages));
     }
 
@@ -73,9 +107,52 @@ public class LanguageController {
      * Este endpoint es usado por el frontend durante el proceso de registro
      */
     @GetMapping("/select-native")
-    public ResponseEntity<List<LanguageResponse>> getLanguagesForNativeSelection() {
+    public ResponseEntity<byte[]> getLanguagesForNativeSelection(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         // Retornamos los idiomas recomendados para empezar
-        var languages = getLanguageCatalog.getStartingLanguages();
-        return ResponseEntity.ok(mapper.toResponseList(languages));
+        return cacheable(catalogResponses.starting(), acceptEncoding);
+    }
+
+    /**
+     * Respuesta 200 con el cuerpo ya serializado y las cabeceras de caché de su versión
+     * La variante gzip lleva su propio ETag: es otra representación del mismo recurso
+     */
+    private ResponseEntity<byte[]> cacheable(LanguageCatalogResponses.Body body, String acceptEncoding) {
+        boolean gzip = body.gzip() != null && acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(gzip ? body.version().getTag() + "-" + GZIP : body.version().getTag())
+                .cacheControl(cacheControl);
+        if (body.gzip() != null) {
+            response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(gzip ? body.gzip() : body.json());
+    }
+
+    /**
+     * Indica si la cabecera Accept-Encoding admite gzip (explícitamente o con *, sin q=0)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase(GZIP) && !name.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && parameter.substring(2).trim().matches("0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
     }
 }
@@ -0,0 +1,89 @@
+package com.yourteacher.userservice.adapter.in.web;
+
+import com.yourteacher.userservice.adapter.in.web.dto.UserLanguageResponse;
+import com.yourteacher.userservice.adapter.in.web.dto.UserResponse;
+import com.yourteacher.userservice.adapter.in.web.mapper.UserDtoMapper;
+import com.yourteacher.userservice.adapter.in.web.mapper.UserLanguageDtoMapper;
+import com.yourteacher.userservice.domain.model.UserLanguage;
+import com.yourteacher.userservice.domain.port.in.GetLanguageCatalogUseCase;
+import com.yourteacher.userservice.domain.port.in.ReactiveUserReadUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Controlador REST de lectura reactiva del perfil y los idiomas del usuario
+ * Adapter Layer - Primary Adapter (Input)
+ *
+ * Mismas respuestas que UserController.getUserProfile y las lecturas de
+ * UserLanguageController. Devuelve Mono: el hilo de la petición queda libre
+ * mientras se espera a la base de datos y la respuesta se escribe al completar.
+ * Los datos de catálogo salen de memoria (GetLanguageCatalogUseCase), sin E/S.
+ */
+@RestController
+@RequestMapping("/api/v1/reactive/users")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "database.reactive", name = "enabled", havingValue = "true")
+public class ReactiveUserReadController {
+
+    private final ReactiveUserReadUseCase reactiveUserRead;
+    private final GetLanguageCatalogUseCase getLanguageCatalog;
+    private final UserDtoMapper userMapper;
+    private final UserLanguageDtoMapper userLanguageMapper;
+
+    /**
+     * GET /api/v1/reactive/users/{id}/profile - Obtener perfil completo del usuario con idiomas
+     */
+    @GetMapping("/{id}/profile")
+    public Mono<ResponseEntity<UserResponse>> getUserProfile(@PathVariable Long id) {
+        return reactiveUserRead.getUserProfile(id)
+                .map(profile -> {
+                    UserResponse response = userMapper.toResponse(profile.getUser());
+                    response.setLanguages(userLanguageMapper.toResponseList(
+                            profile.getLanguages(),
+                            profile.getLanguageDetails()));
+                    return ResponseEntity.ok(response);
+                });
+    }
+
+    /**
+     * GET /api/v1/reactive/users/{userId}/languages - Obtener todos los idiomas del usuario
+     */
+    @GetMapping("/{userId}/languages")
+    public Mono<ResponseEntity<List<UserLanguageResponse>>> getUserLanguages(@PathVariable Long userId) {
+        return reactiveUserRead.getUserLanguages(userId)
+                .map(userLanguages -> ResponseEntity.ok(toResponseList(userLanguages)));
+    }
+
+    /**
+     * GET /api/v1/reactive/users/{userId}/languages/native - Obtener idioma nativo del usuario
+     */
+    @GetMapping("/{userId}/languages/native")
+    public Mono<ResponseEntity<UserLanguageResponse>> getNativeLanguage(@PathVariable Long userId) {
+        return reactiveUserRead.getNativeLanguage(userId)
+                .flatMap(nativeLanguage -> Mono.justOrEmpty(getLanguageCatalog.getLanguageById(nativeLanguage.getLanguageId()))
+                        .map(language -> ResponseEntity.ok(userLanguageMapper.toResponse(nativeLanguage, language))))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * GET /api/v1/reactive/users/{userId}/languages/learning - Obtener idiomas de aprendizaje
+     */
+    @GetMapping("/{userId}/languages/learning")
+    public Mono<ResponseEntity<List<UserLanguageResponse>>> getLearningLanguages(@PathVariable Long userId) {
+        return reactiveUserRead.getLearningLanguages(userId)
+                .map(learningLanguages -> ResponseEntity.ok(toResponseList(learningLanguages)));
+    }
+
+    private List<UserLanguageResponse> toResponseList(List<UserLanguage> userLanguages) {
+        var languageIds = userLanguages.stream()
+                .map(UserLanguage::getLanguageId)
+                .collect(Collectors.toSet());
+        return userLanguageMapper.toResponseList(userLanguages, getLanguageCatalog.getLanguagesByIds(languageIds));
+    }
+}
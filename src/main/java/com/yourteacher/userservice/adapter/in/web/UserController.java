@@ -3,16 +3,22 @@ package com.yourteacher.userservice.adapter.in.web;
 import com.yourteacher.userservice.adapter.in.web.dto.ChangeEmailRequest;
 import com.yourteacher.userservice.adapter.in.web.dto.ChangePasswordRequest;
 import com.yourteacher.userservice.adapter.in.web.dto.UserLanguageResponse;
+import com.yourteacher.userservice.adapter.in.web.dto.UserPageResponse;
 import com.yourteacher.userservice.adapter.in.web.dto.UserRequest;
 import com.yourteacher.userservice.adapter.in.web.dto.UserResponse;
 import com.yourteacher.userservice.adapter.in.web.mapper.UserDtoMapper;
 import com.yourteacher.userservice.adapter.in.web.mapper.UserLanguageDtoMapper;
+import com.yourteacher.userservice.domain.model.AuthProvider;
 import com.yourteacher.userservice.domain.model.Language;
+import com.yourteacher.userservice.domain.model.Role;
 import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserFilter;
 import com.yourteacher.userservice.domain.model.UserLanguage;
+import com.yourteacher.userservice.domain.model.UserPage;
+import com.yourteacher.userservice.domain.model.UserProfile;
+import com.yourteacher.userservice.domain.model.UserStatus;
 import com.yourteacher.userservice.domain.port.in.GetUserProfileUseCase;
 import com.yourteacher.userservice.domain.port.in.UserService;
-import com.yourteacher.userservice.domain.port.out.LanguageRepository;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -36,7 +42,6 @@ public class UserController {
     private final GetUserProfileUseCase getUserProfileUseCase;
     private final UserDtoMapper mapper;
     private final UserLanguageDtoMapper userLanguageMapper;
-    private final LanguageRepository languageRepository;
     
     /**
      * POST /api/v1/users - Registrar nuevo usuario
@@ -70,14 +75,33 @@ public class UserController {
     }
     
     /**
-     * GET /api/v1/users - Obtener todos los usuarios
+     * GET /api/v1/users - Obtener usuarios paginados (cursor) y filtrados
+     *
+     * @param cursor nextCursor de la página anterior (omitir para la primera página)
+     * @param limit Tamaño de página (1-200, por defecto 50)
      */
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        List<UserResponse> users = userService.getAllUsers().stream()
+    public ResponseEntity<UserPageResponse> getUsers(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + UserService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) UserStatus status,
+            @RequestParam(required = false) AuthProvider authProvider,
+            @RequestParam(required = false) Role role) {
+        UserFilter filter = UserFilter.builder()
+                .status(status)
+                .authProvider(authProvider)
+                .role(role)
+                .build();
+        UserPage page = userService.getUsers(filter, cursor, limit);
+
+        List<UserResponse> users = page.getUsers().stream()
                 .map(mapper::toResponse)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(users);
+        return ResponseEntity.ok(UserPageResponse.builder()
+                .users(users)
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.hasNext())
+                .build());
     }
     
     /**
@@ -124,20 +148,11 @@ public class UserController {
      */
     @GetMapping("/{id}/profile")
     public ResponseEntity<UserResponse> getUserProfile(@PathVariable Long id) {
-        // Obtener perfil completo (usuario + idiomas)
-        GetUserProfileUseCase.UserProfile profile = getUserProfileUseCase.getUserProfile(id);
+        // Obtener perfil completo (usuario + idiomas + detalle de idiomas) en una sola consulta
+        UserProfile profile = getUserProfileUseCase.getUserProfile(id);
 
-        // Obtener información detallada de los idiomas
         List<UserLanguage> userLanguages = profile.getLanguages();
-
-        // Crear mapa de idiomas obteniendo cada uno por su ID
-        Map<Long, Language> languagesMap = userLanguages.stream()
-                .map(UserLanguage::getLanguageId)
-                .distinct()
-                .map(languageRepository::findById)
-                .filter(java.util.Optional::isPresent)
-                .map(java.util.Optional::get)
-                .collect(Collectors.toMap(Language::getId, lang -> lang));
+        Map<Long, Language> languagesMap = profile.getLanguageDetails();
 
         // Mapear idiomas a DTOs
         List<UserLanguageResponse> languageResponses = userLanguageMapper.toResponseList(
@@ -0,0 +1,135 @@
+package com.yourteacher.userservice.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourteacher.userservice.adapter.in.web.dto.UserResponse;
+import com.yourteacher.userservice.adapter.in.web.mapper.UserDtoMapper;
+import com.yourteacher.userservice.domain.model.Role;
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserStatus;
+import com.yourteacher.userservice.domain.port.in.ExportUsersUseCase;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Controlador REST para la exportación de usuarios (herramientas de back-office)
+ * Adapter Layer - Primary Adapter (Input)
+ *
+ * Escribe cada usuario en la respuesta a medida que se lee de la base de datos,
+ * en formato NDJSON (un JSON por línea) o CSV, con memoria constante.
+ * Solo accesible para administradores.
+ */
+@RestController
+@RequestMapping("/api/v1/users/export")
+@RequiredArgsConstructor
+public class UserExportController {
+
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    private static final String CSV_CONTENT_TYPE = "text/csv";
+    private static final String CSV_HEADER =
+            "id,email,firstName,lastName,avatarSeed,roles,status,authProvider,createdAt,updatedAt";
+    // Primeros caracteres con los que una hoja de cálculo interpreta una celda como fórmula
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final ExportUsersUseCase exportUsersUseCase;
+    private final UserDtoMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * GET /api/v1/users/export - Exportar usuarios en streaming
+     *
+     * @param status Exportar solo usuarios con este estado
+     * @param updatedSince Exportar solo usuarios actualizados desde esta fecha (sincronización incremental)
+     * @param format ndjson (por defecto) o csv
+     */
+    @GetMapping
+    public void exportUsers(
+            @RequestParam(required = false) UserStatus status,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("Formato de exportación no soportado: " + format);
+        }
+
+        response.setContentType(csv ? CSV_CONTENT_TYPE : NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Content-Disposition",
+                "attachment; filename=\"users." + (csv ? "csv" : "ndjson") + "\"");
+
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        if (csv) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        exportUsersUseCase.exportUsers(status, updatedSince, user -> {
+            try {
+                writer.write(csv ? toCsvLine(user) : toJsonLine(user));
+                writer.write('\n');
+            } catch (IOException e) {
+                // El cliente cerró la conexión: se aborta la exportación y se libera el cursor
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private String toJsonLine(User user) throws IOException {
+        UserResponse userResponse = mapper.toResponse(user);
+        return objectMapper.writeValueAsString(userResponse);
+    }
+
+    private String toCsvLine(User user) {
+        String roles = user.getRoles() == null ? "" : user.getRoles().stream()
+                .map(Role::name)
+                .sorted()
+                .collect(Collectors.joining(";"));
+        return String.join(",",
+                csvValue(user.getId()),
+                csvValue(user.getEmail()),
+                csvValue(user.getFirstName()),
+                csvValue(user.getLastName()),
+                csvValue(user.getAvatarSeed()),
+                csvValue(roles),
+                csvValue(user.getStatus()),
+                csvValue(user.getAuthProvider()),
+                csvValue(user.getCreatedAt()),
+                csvValue(user.getUpdatedAt()));
+    }
+
+    /**
+     * Escapa un valor para CSV (RFC 4180): entre comillas si contiene separadores o comillas
+     *
+     * Los textos que empiezan por =, +, -, @, tabulador o retorno de carro se
+     * prefijan con ' para que una hoja de cálculo no los ejecute como fórmula
+     * (nombre, apellido y email los escribe el propio usuario).
+     */
+    private String csvValue(Object value) {
+        String text = Objects.toString(value, "");
+        if (value instanceof String && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
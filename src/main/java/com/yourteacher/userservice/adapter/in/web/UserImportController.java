@@ -0,0 +1,213 @@
+package com.yourteacher.userservice.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourteacher.userservice.adapter.in.web.dto.UserRequest;
+import com.yourteacher.userservice.adapter.in.web.mapper.UserDtoMapper;
+import com.yourteacher.userservice.domain.model.Role;
+import com.yourteacher.userservice.domain.port.in.ImportUsersUseCase;
+import com.yourteacher.userservice.domain.port.in.ImportUsersUseCase.ImportResult;
+import com.yourteacher.userservice.domain.port.in.ImportUsersUseCase.ImportRow;
+import com.yourteacher.userservice.domain.port.in.ImportUsersUseCase.ImportSummary;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Controlador REST para la importación masiva de usuarios (herramientas de back-office)
+ * Adapter Layer - Primary Adapter (Input)
+ *
+ * Lee el fichero (CSV o NDJSON) línea a línea mientras se procesa y devuelve
+ * un resultado NDJSON por fila a medida que termina cada bloque, seguido de
+ * una última línea con el resumen. Solo accesible para administradores.
+ */
+@RestController
+@RequestMapping("/api/v1/users/import")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    private static final String CSV_CONTENT_TYPE = "text/csv";
+    private static final List<String> CSV_REQUIRED_COLUMNS = List.of("email", "password", "firstName", "lastName");
+
+    private final ImportUsersUseCase importUsersUseCase;
+    private final UserDtoMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * POST /api/v1/users/import - Importar usuarios en streaming
+     *
+     * CSV: cabecera con las columnas email, password, firstName, lastName y,
+     * opcionalmente, roles (separados por ';'). NDJSON: un UserRequest por línea.
+     */
+    @PostMapping(consumes = {CSV_CONTENT_TYPE, NDJSON_CONTENT_TYPE})
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean csv = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType(CSV_CONTENT_TYPE));
+
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        Stream<ImportRow> rows = csv ? csvRows(reader) : ndjsonRows(reader);
+
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+
+        ImportSummary summary = importUsersUseCase.importUsers(rows, results -> {
+            try {
+                for (ImportResult result : results) {
+                    writer.write(objectMapper.writeValueAsString(result));
+                    writer.write('\n');
+                }
+                // Enviar los resultados del bloque sin esperar al final de la importación
+                writer.flush();
+            } catch (IOException e) {
+                // El cliente cerró la conexión: se aborta la importación
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.write(objectMapper.writeValueAsString(summary));
+        writer.write('\n');
+        writer.flush();
+    }
+
+    private Stream<ImportRow> ndjsonRows(BufferedReader reader) {
+        AtomicLong lineNumber = new AtomicLong();
+        return reader.lines()
+                .map(line -> new NumberedLine(lineNumber.incrementAndGet(), line))
+                .filter(line -> !line.text().isBlank())
+                .map(line -> {
+                    try {
+                        return toRow(line.number(), objectMapper.readValue(line.text(), UserRequest.class));
+                    } catch (JsonProcessingException e) {
+                        return ImportRow.invalid(line.number(), null, "JSON no válido");
+                    }
+                });
+    }
+
+    private Stream<ImportRow> csvRows(BufferedReader reader) throws IOException {
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return Stream.empty();
+        }
+        List<String> header = parseCsvLine(headerLine).stream().map(String::trim).toList();
+        for (String column : CSV_REQUIRED_COLUMNS) {
+            if (!header.contains(column)) {
+                throw new IllegalArgumentException("Falta la columna obligatoria en el CSV: " + column);
+            }
+        }
+
+        AtomicLong lineNumber = new AtomicLong(1);
+        return reader.lines()
+                .map(line -> new NumberedLine(lineNumber.incrementAndGet(), line))
+                .filter(line -> !line.text().isBlank())
+                .map(line -> {
+                    List<String> values = parseCsvLine(line.text());
+                    Map<String, String> record = new HashMap<>();
+                    for (int i = 0; i < header.size() && i < values.size(); i++) {
+                        record.put(header.get(i), values.get(i));
+                    }
+                    try {
+                        return toRow(line.number(), UserRequest.builder()
+                                .email(record.get("email"))
+                                .password(record.get("password"))
+                                .firstName(record.get("firstName"))
+                                .lastName(record.get("lastName"))
+                                .roles(parseRoles(record.get("roles")))
+                                .build());
+                    } catch (IllegalArgumentException e) {
+                        return ImportRow.invalid(line.number(), record.get("email"), "Rol no válido");
+                    }
+                });
+    }
+
+    /**
+     * Aplica las mismas validaciones que el alta individual de usuarios
+     */
+    private ImportRow toRow(long line, UserRequest userRequest) {
+        Set<ConstraintViolation<UserRequest>> violations = validator.validate(userRequest);
+        if (!violations.isEmpty()) {
+            String error = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return ImportRow.invalid(line, userRequest.getEmail(), error);
+        }
+        return ImportRow.of(line, mapper.toDomain(userRequest));
+    }
+
+    private Set<Role> parseRoles(String roles) {
+        if (roles == null || roles.isBlank()) {
+            return null;
+        }
+        Set<Role> parsed = EnumSet.noneOf(Role.class);
+        Arrays.stream(roles.split(";"))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .map(role -> Role.valueOf(role.toUpperCase(Locale.ROOT)))
+                .forEach(parsed::add);
+        return parsed;
+    }
+
+    /**
+     * Separa una línea CSV (RFC 4180): valores entre comillas con comillas dobles escapadas
+     */
+    private List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private record NumberedLine(long number, String text) {
+    }
+}
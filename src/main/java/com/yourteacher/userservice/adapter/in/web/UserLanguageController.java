@@ -1,6 +1,7 @@
 package com.yourteacher.userservice.adapter.in.web;
 
 import com.yourteacher.userservice.adapter.in.web.dto.AddLanguageRequest;
+import com.yourteacher.userservice.adapter.in.web.dto.UpdateUserLanguagesRequest;
 import com.yourteacher.userservice.adapter.in.web.dto.UserLanguageResponse;
 import com.yourteacher.userservice.adapter.in.web.mapper.UserLanguageDtoMapper;
 import com.yourteacher.userservice.domain.model.Language;
@@ -41,11 +42,7 @@ public class UserLanguageController {
                 .map(ul -> ul.getLanguageId())
                 .collect(Collectors.toSet());
 
-        Map<Long, Language> languagesMap = languageIds.stream()
-                .map(id -> getLanguageCatalog.getLanguageById(id))
-                .filter(opt -> opt.isPresent())
-                .map(opt -> opt.get())
-                .collect(Collectors.toMap(Language::getId, lang -> lang));
+        Map<Long, Language> languagesMap = getLanguageCatalog.getLanguagesByIds(languageIds);
 
         var responses = mapper.toResponseList(userLanguages, languagesMap);
         return ResponseEntity.ok(responses);
@@ -83,11 +80,7 @@ public class UserLanguageController {
                 .map(ul -> ul.getLanguageId())
                 .collect(Collectors.toSet());
 
-        Map<Long, Language> languagesMap = languageIds.stream()
-                .map(id -> getLanguageCatalog.getLanguageById(id))
-                .filter(opt -> opt.isPresent())
-                .map(opt -> opt.get())
-                .collect(Collectors.toMap(Language::getId, lang -> lang));
+        Map<Long, Language> languagesMap = getLanguageCatalog.getLanguagesByIds(languageIds);
 
         var responses = mapper.toResponseList(learningLanguages, languagesMap);
         return ResponseEntity.ok(responses);
@@ -104,6 +97,31 @@ public class UserLanguageController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    /**
+     * POST /api/v1/users/{userId}/languages/batch - Agregar, eliminar y marcar como nativos
+     * varios idiomas en una sola transacción. Devuelve todos los idiomas del usuario tras los cambios.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserLanguageResponse>> updateLanguages(
+            @PathVariable Long userId,
+            @Valid @RequestBody UpdateUserLanguagesRequest request) {
+        var userLanguages = manageUserLanguages.updateUserLanguages(
+                userId,
+                request.getAdd() != null ? request.getAdd() : List.of(),
+                request.getRemove() != null ? request.getRemove() : List.of(),
+                request.getNativeLanguageId());
+
+        // Obtener información de los idiomas
+        var languageIds = userLanguages.stream()
+                .map(ul -> ul.getLanguageId())
+                .collect(Collectors.toSet());
+
+        Map<Long, Language> languagesMap = getLanguageCatalog.getLanguagesByIds(languageIds);
+
+        var responses = mapper.toResponseList(userLanguages, languagesMap);
+        return ResponseEntity.ok(responses);
+    }
+
     /**
      * PATCH /api/v1/users/{userId}/languages/{languageId}/native - Marcar idioma como nativo
      */
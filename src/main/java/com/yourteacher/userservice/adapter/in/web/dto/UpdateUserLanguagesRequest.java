@@ -0,0 +1,32 @@
+package com.yourteacher.userservice.adapter.in.web.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO para agregar, eliminar y marcar como nativos varios idiomas de un usuario en una sola solicitud
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateUserLanguagesRequest {
+
+    @Builder.Default
+    @Size(max = 50, message = "No se pueden agregar más de 50 idiomas a la vez")
+    private List<@NotNull(message = "Language ID is required") Long> add = new ArrayList<>();
+
+    @Builder.Default
+    @Size(max = 50, message = "No se pueden eliminar más de 50 idiomas a la vez")
+    private List<@NotNull(message = "Language ID is required") Long> remove = new ArrayList<>();
+
+    // Idioma a marcar como nativo (opcional): debe estar en "add" o ya agregado
+    private Long nativeLanguageId;
+}
@@ -0,0 +1,23 @@
+package com.yourteacher.userservice.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respuestas paginadas del listado de usuarios
+ * nextCursor se envía como parámetro cursor para obtener la página siguiente
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPageResponse {
+
+    private List<UserResponse> users;
+    private Long nextCursor;
+    private boolean hasNext;
+}
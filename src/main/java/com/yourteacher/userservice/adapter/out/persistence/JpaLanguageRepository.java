@@ -28,12 +28,6 @@ public interface JpaLanguageRepository extends JpaRepository<LanguageEntity, Lon
     @Query("SELECT l FROM LanguageEntity l WHERE LOWER(l.name) = LOWER(:name)")
     Optional<LanguageEntity> findByNameIgnoreCase(@Param("name") String name);
 
-    /**
-     * Busca idiomas cuyo nombre contenga el término de búsqueda (case-insensitive)
-     */
-    @Query("SELECT l FROM LanguageEntity l WHERE LOWER(l.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    List<LanguageEntity> searchByName(@Param("searchTerm") String searchTerm);
-
     /**
      * Verifica si existe un idioma con el código dado (case-insensitive)
      */
@@ -2,10 +2,12 @@ package com.yourteacher.userservice.adapter.out.persistence;
 
 import com.yourteacher.userservice.adapter.out.persistence.entity.UserLanguageEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,6 +64,37 @@ public interface JpaUserLanguageRepository extends JpaRepository<UserLanguageEnt
     @Query("SELECT CASE WHEN COUNT(ul) > 0 THEN true ELSE false END FROM UserLanguageEntity ul WHERE ul.userId = :userId AND ul.isNative = true")
     boolean hasNativeLanguage(@Param("userId") Long userId);
 
+    /**
+     * Cambia el idioma nativo en una sola sentencia: marca el idioma indicado y
+     * desmarca el nativo anterior. Solo toca las filas que cambian y no modifica
+     * nada si el usuario no tiene el idioma agregado.
+     * Las sentencias masivas no pasan por el contexto de persistencia: se vacía
+     * después para que las lecturas siguientes de la transacción vean el cambio.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserLanguageEntity ul " +
+           "SET ul.isNative = CASE WHEN ul.languageId = :languageId THEN true ELSE false END, " +
+           "ul.version = ul.version + 1 " +
+           "WHERE ul.userId = :userId AND (ul.isNative = true OR ul.languageId = :languageId) " +
+           "AND EXISTS (SELECT t.id FROM UserLanguageEntity t WHERE t.userId = :userId AND t.languageId = :languageId)")
+    int switchNativeLanguage(@Param("userId") Long userId, @Param("languageId") Long languageId);
+
+    /**
+     * Elimina un idioma de aprendizaje; el idioma nativo nunca se elimina
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM UserLanguageEntity ul " +
+           "WHERE ul.userId = :userId AND ul.languageId = :languageId AND ul.isNative = false")
+    int deleteLearningLanguage(@Param("userId") Long userId, @Param("languageId") Long languageId);
+
+    /**
+     * Elimina varios idiomas de aprendizaje de un usuario; el idioma nativo nunca se elimina
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM UserLanguageEntity ul " +
+           "WHERE ul.userId = :userId AND ul.languageId IN :languageIds AND ul.isNative = false")
+    int deleteLearningLanguages(@Param("userId") Long userId, @Param("languageIds") Collection<Long> languageIds);
+
     /**
      * Cuenta cuántos idiomas tiene un usuario
      */
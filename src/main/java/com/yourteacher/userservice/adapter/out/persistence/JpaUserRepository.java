@@ -1,12 +1,25 @@
 package com.yourteacher.userservice.adapter.out.persistence;
 
 import com.yourteacher.userservice.adapter.out.persistence.entity.UserEntity;
+import com.yourteacher.userservice.adapter.out.persistence.projection.UserProfileRow;
+import com.yourteacher.userservice.domain.model.AuthProvider;
+import com.yourteacher.userservice.domain.model.Role;
 import com.yourteacher.userservice.domain.model.UserStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositorio JPA para operaciones de base de datos
@@ -19,5 +32,115 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, Long> {
     
     boolean existsByEmail(String email);
     
+    /**
+     * Obtiene cuáles de los emails dados ya están registrados (una sola consulta IN)
+     */
+    @Query("SELECT u.email FROM UserEntity u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
     List<UserEntity> findByStatus(UserStatus status);
+    
+    /**
+     * Obtiene usuarios con ID mayor que afterId, ordenados por ID (paginación keyset)
+     * Los filtros null no se aplican
+     */
+    @Query("SELECT u FROM UserEntity u " +
+           "WHERE u.id > :afterId " +
+           "AND (:status IS NULL OR u.status = :status) " +
+           "AND (:authProvider IS NULL OR u.authProvider = :authProvider) " +
+           "AND (:role IS NULL OR :role MEMBER OF u.roles) " +
+           "ORDER BY u.id ASC")
+    List<UserEntity> findPageAfter(@Param("afterId") Long afterId,
+                                   @Param("status") UserStatus status,
+                                   @Param("authProvider") AuthProvider authProvider,
+                                   @Param("role") Role role,
+                                   Pageable pageable);
+    
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.password = :newPassword " +
+           "WHERE u.id = :id AND u.password = :currentPassword")
+    int replacePasswordHash(@Param("id") Long id,
+                            @Param("currentPassword") String currentPassword,
+                            @Param("newPassword") String newPassword);
+    
+    // Actualizaciones parciales con control de concurrencia optimista:
+    // solo se aplican si la versión coincide y la incrementan
+    
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.password = :password, u.updatedAt = :updatedAt, " +
+           "u.version = u.version + 1 WHERE u.id = :id AND u.version = :version")
+    int updatePassword(@Param("id") Long id,
+                       @Param("password") String password,
+                       @Param("updatedAt") LocalDateTime updatedAt,
+                       @Param("version") long version);
+    
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.status = :status, u.updatedAt = :updatedAt, " +
+           "u.version = u.version + 1 WHERE u.id = :id AND u.version = :version")
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") UserStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt,
+                     @Param("version") long version);
+    
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.email = :email, u.updatedAt = :updatedAt, " +
+           "u.version = u.version + 1 WHERE u.id = :id AND u.version = :version")
+    int updateEmail(@Param("id") Long id,
+                    @Param("email") String email,
+                    @Param("updatedAt") LocalDateTime updatedAt,
+                    @Param("version") long version);
+    
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.firstName = :firstName, u.lastName = :lastName, " +
+           "u.updatedAt = :updatedAt, u.version = u.version + 1 WHERE u.id = :id AND u.version = :version")
+    int updateNames(@Param("id") Long id,
+                    @Param("firstName") String firstName,
+                    @Param("lastName") String lastName,
+                    @Param("updatedAt") LocalDateTime updatedAt,
+                    @Param("version") long version);
+    
+    /**
+     * Los roles son una colección de elementos (user_roles): JPQL no puede
+     * modificarlos directamente, se usan consultas nativas
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_roles WHERE user_id = :id", nativeQuery = true)
+    int deleteRoles(@Param("id") Long id);
+    
+    @Modifying
+    @Query(value = "INSERT INTO user_roles (user_id, role) VALUES (:id, :role)", nativeQuery = true)
+    int insertRole(@Param("id") Long id, @Param("role") String role);
+    
+    /**
+     * Recorre usuarios para exportación con un cursor de solo lectura
+     * Los roles se obtienen en la misma consulta (JOIN FETCH) para no consultar por usuario
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT DISTINCT u FROM UserEntity u LEFT JOIN FETCH u.roles " +
+           "WHERE (:status IS NULL OR u.status = :status) " +
+           "AND (:updatedSince IS NULL OR u.updatedAt >= :updatedSince) " +
+           "ORDER BY u.id ASC")
+    Stream<UserEntity> streamForExport(@Param("status") UserStatus status,
+                                       @Param("updatedSince") LocalDateTime updatedSince);
+    
+    /**
+     * Obtiene el perfil de un usuario en una sola consulta
+     * Retorna una fila por cada combinación rol-idioma del usuario
+     */
+    @Query("SELECT u.id AS id, u.email AS email, u.firstName AS firstName, u.lastName AS lastName, " +
+           "u.avatarSeed AS avatarSeed, u.status AS status, u.authProvider AS authProvider, " +
+           "u.createdAt AS createdAt, u.updatedAt AS updatedAt, r AS role, " +
+           "ul.id AS userLanguageId, ul.languageId AS languageId, ul.isNative AS isNative, ul.addedAt AS addedAt, " +
+           "l.name AS languageName, l.code AS languageCode, l.flagUrl AS languageFlagUrl, " +
+           "l.createdAt AS languageCreatedAt " +
+           "FROM UserEntity u " +
+           "LEFT JOIN u.roles r " +
+           "LEFT JOIN UserLanguageEntity ul ON ul.userId = u.id " +
+           "LEFT JOIN LanguageEntity l ON l.id = ul.languageId " +
+           "WHERE u.id = :id " +
+           "ORDER BY ul.id")
+    List<UserProfileRow> findProfileRows(@Param("id") Long id);
 }
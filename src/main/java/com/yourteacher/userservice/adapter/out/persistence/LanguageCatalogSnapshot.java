@@ -0,0 +1,156 @@
+package com.yourteacher.userservice.adapter.out.persistence;
+
+import com.yourteacher.userservice.domain.model.Language;
+import com.yourteacher.userservice.domain.model.LanguageCatalogVersion;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Copia inmutable del catálogo de idiomas en memoria
+ *
+ * Contiene los idiomas ordenados por nombre, los índices por ID, código y
+ * nombre, el índice de búsqueda y la versión del catálogo (hash del contenido).
+ * Una vez construida no se modifica: para reflejar cambios se construye
+ * una nueva copia y se reemplaza la referencia, por lo que puede leerse desde
+ * varios hilos sin sincronización.
+ */
+final class LanguageCatalogSnapshot {
+
+    private final List<Language> languages;
+    private final Map<Long, Language> byId;
+    private final Map<String, Language> byCode;
+    private final Map<String, Language> byName;
+    private final LanguageSearchIndex searchIndex;
+    private final LanguageCatalogVersion version;
+
+    /**
+     * @param catalog Idiomas del catálogo, en cualquier orden
+     */
+    LanguageCatalogSnapshot(List<Language> catalog) {
+        this.languages = catalog.stream()
+                .sorted(Comparator.comparing(Language::getName,
+                        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                .toList();
+        String[] lowerCaseNames = new String[languages.size()];
+
+        Map<Long, Language> idIndex = new HashMap<>();
+        Map<String, Language> codeIndex = new HashMap<>();
+        Map<String, Language> nameIndex = new HashMap<>();
+        for (int i = 0; i < languages.size(); i++) {
+            Language language = languages.get(i);
+            lowerCaseNames[i] = normalize(language.getName());
+            idIndex.put(language.getId(), language);
+            if (language.getCode() != null) {
+                codeIndex.putIfAbsent(normalize(language.getCode()), language);
+            }
+            if (language.getName() != null) {
+                nameIndex.putIfAbsent(lowerCaseNames[i], language);
+            }
+        }
+        this.byId = Map.copyOf(idIndex);
+        this.byCode = Map.copyOf(codeIndex);
+        this.byName = Map.copyOf(nameIndex);
+        this.searchIndex = new LanguageSearchIndex(languages);
+        this.version = new LanguageCatalogVersion(contentHash(languages));
+    }
+
+    /**
+     * Versión del catálogo: hash del contenido
+     */
+    LanguageCatalogVersion version() {
+        return version;
+    }
+
+    /**
+     * Indica si el catálogo tiene el mismo contenido que otra copia
+     */
+    boolean hasSameContentAs(LanguageCatalogSnapshot other) {
+        return other != null && version.getTag().equals(other.version.getTag());
+    }
+
+    /**
+     * Todos los idiomas ordenados alfabéticamente por nombre (lista inmutable)
+     */
+    List<Language> all() {
+        return languages;
+    }
+
+    Optional<Language> findById(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * Idiomas encontrados, en el orden de los IDs pedidos y sin repetir
+     */
+    Map<Long, Language> findAllByIds(Collection<Long> ids) {
+        Map<Long, Language> found = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Language language = id == null ? null : byId.get(id);
+            if (language != null) {
+                found.put(id, language);
+            }
+        }
+        return found;
+    }
+
+    Optional<Language> findByCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(byCode.get(normalize(code)));
+    }
+
+    Optional<Language> findByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(byName.get(normalize(name)));
+    }
+
+    /**
+     * Idiomas que coinciden con el término por nombre, nombre nativo o código,
+     * del más al menos relevante (ver LanguageSearchIndex)
+     */
+    List<Language> searchByName(String searchTerm, int limit) {
+        return searchIndex.search(searchTerm, limit);
+    }
+
+    /**
+     * Los primeros idiomas en orden alfabético
+     */
+    List<Language> first(int limit) {
+        return languages.subList(0, Math.min(limit, languages.size()));
+    }
+
+    int size() {
+        return languages.size();
+    }
+
+    /**
+     * SHA-256 (truncado a 64 bits) de todos los campos de los idiomas, en orden de ID
+     */
+    private static String contentHash(List<Language> languages) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+        languages.stream()
+                .sorted(Comparator.comparing(Language::getId, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(language -> digest.update(String.join("\0",
+                        String.valueOf(language.getId()), language.getName(), language.getCode(),
+                        language.getNativeName(), language.getFlagUrl(), String.valueOf(language.getCreatedAt()), "\n")
+                        .getBytes(StandardCharsets.UTF_8)));
+        return HexFormat.of().formatHex(digest.digest(), 0, 8);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+}
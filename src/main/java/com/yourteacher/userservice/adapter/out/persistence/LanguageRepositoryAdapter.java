@@ -2,91 +2,176 @@ package com.yourteacher.userservice.adapter.out.persistence;
 
 import com.yourteacher.userservice.adapter.out.persistence.mapper.LanguageMapper;
 import com.yourteacher.userservice.domain.model.Language;
+import com.yourteacher.userservice.domain.model.LanguageCatalogVersion;
 import com.yourteacher.userservice.domain.port.out.LanguageRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Adaptador de persistencia que implementa el puerto LanguageRepository
  * Conecta el dominio con la infraestructura de base de datos
+ *
+ * El catálogo de idiomas es pequeño y casi nunca cambia, por lo que las
+ * lecturas se sirven desde una copia inmutable en memoria (LanguageCatalogSnapshot)
+ * sin acceder a la base de datos. La copia se carga al arrancar y se reemplaza
+ * de forma atómica cuando se guarda o elimina un idioma a través de este
+ * adaptador (tras el commit si hay una transacción activa).
+ *
+ * Los cambios hechos directamente en la base de datos, o desde otra instancia
+ * del servicio, no se ven hasta la siguiente recarga.
  */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class LanguageRepositoryAdapter implements LanguageRepository {
 
+    private static final int STARTING_LANGUAGES_LIMIT = 10;
+
     private final JpaLanguageRepository jpaRepository;
     private final LanguageMapper mapper;
 
+    private volatile LanguageCatalogSnapshot snapshot;
+    // Lock en lugar de synchronized: la recarga consulta la base de datos y no debe fijar hilos virtuales a su portador
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
     @Override
     public Language save(Language language) {
         var entity = mapper.toEntity(language);
         var savedEntity = jpaRepository.save(entity);
+        reloadAfterCommit();
         return mapper.toDomain(savedEntity);
     }
 
     @Override
     public List<Language> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(mapper::toDomain)
-                .toList();
+        return snapshot().all();
     }
 
     @Override
     public Optional<Language> findById(Long id) {
-        return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+        return snapshot().findById(id);
+    }
+
+    @Override
+    public Map<Long, Language> findAllByIds(Collection<Long> ids) {
+        return snapshot().findAllByIds(ids);
     }
 
     @Override
     public Optional<Language> findByCode(String code) {
-        return jpaRepository.findByCodeIgnoreCase(code)
-                .map(mapper::toDomain);
+        return snapshot().findByCode(code);
     }
 
     @Override
     public Optional<Language> findByName(String name) {
-        return jpaRepository.findByNameIgnoreCase(name)
-                .map(mapper::toDomain);
+        return snapshot().findByName(name);
     }
 
     @Override
-    public List<Language> searchByName(String searchTerm) {
-        return jpaRepository.searchByName(searchTerm).stream()
-                .map(mapper::toDomain)
-                .toList();
+    public List<Language> searchByName(String searchTerm, int limit) {
+        return snapshot().searchByName(searchTerm, limit);
     }
 
     @Override
     public List<Language> findStartingLanguages() {
         // Obtenemos los primeros 10 idiomas
-        var entities = jpaRepository.findTop10ByOrderByNameAsc();
-        return entities.stream()
-                .limit(10)
-                .map(mapper::toDomain)
-                .toList();
+        return snapshot().first(STARTING_LANGUAGES_LIMIT);
     }
 
     @Override
     public boolean existsByCode(String code) {
-        return jpaRepository.existsByCodeIgnoreCase(code);
+        return snapshot().findByCode(code).isPresent();
     }
 
     @Override
     public boolean existsById(Long id) {
-        return jpaRepository.existsById(id);
+        return snapshot().findById(id).isPresent();
     }
 
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
+        reloadAfterCommit();
     }
 
     @Override
     public long count() {
-        return jpaRepository.count();
+        return snapshot().size();
+    }
+
+    @Override
+    public LanguageCatalogVersion getCatalogVersion() {
+        return snapshot().version();
+    }
+
+    /**
+     * Recarga el catálogo cuando la aplicación ha terminado de arrancar,
+     * después de que se hayan cargado los datos iniciales (data.sql, DataLoader)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Lee el catálogo completo de la base de datos y reemplaza la copia en memoria
+     * Las recargas se serializan para que una lectura antigua no sustituya a una más reciente
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            List<Language> languages = jpaRepository.findAll().stream()
+                    .map(mapper::toDomain)
+                    .toList();
+            LanguageCatalogSnapshot loaded = new LanguageCatalogSnapshot(languages);
+            // Si el contenido no cambió se conserva la versión anterior: las copias en caché siguen siendo válidas
+            if (!loaded.hasSameContentAs(snapshot)) {
+                snapshot = loaded;
+            }
+            log.info("Language catalog loaded with {} languages (version {})",
+                    languages.size(), snapshot.version().getTag());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private LanguageCatalogSnapshot snapshot() {
+        LanguageCatalogSnapshot current = snapshot;
+        if (current == null) {
+            reloadLock.lock();
+            try {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            } finally {
+                reloadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private void reloadAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
     }
 }
@@ -0,0 +1,316 @@
+package com.yourteacher.userservice.adapter.out.persistence;
+
+import com.yourteacher.userservice.domain.model.Language;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Índice de búsqueda en memoria sobre el catálogo de idiomas
+ *
+ * Indexa, normalizados (minúsculas y sin tildes), el nombre en inglés, el
+ * nombre nativo (columna native_name, ej: "Español", "Deutsch") y los códigos
+ * ISO 639-1 y 639-2 de cada idioma. Si un idioma no tiene nombre nativo propio,
+ * se usa el endónimo de los datos de locale del JDK. Los términos se
+ * guardan ordenados para resolver los prefijos con una búsqueda binaria; solo
+ * si no se llena el límite se recorren los nombres buscando subcadenas y
+ * errores de tecleo.
+ *
+ * Orden de los resultados:
+ * 1. Código exacto ("es" -> Spanish)
+ * 2. Nombre exacto
+ * 3. Nombre que empieza por el término ("espa" -> Spanish)
+ * 4. Palabra del nombre que empieza por el término
+ * 5. Código que empieza por el término
+ * 6. Nombre que contiene el término ("man" -> German)
+ * 7. Palabra parecida, con uno o dos errores y la misma inicial ("portugese" -> Portuguese)
+ * A igual rango, en orden alfabético.
+ *
+ * Es inmutable: se construye junto con cada LanguageCatalogSnapshot.
+ */
+final class LanguageSearchIndex {
+
+    private static final int EXACT_CODE = 0;
+    private static final int EXACT_NAME = 1;
+    private static final int NAME_PREFIX = 2;
+    private static final int WORD_PREFIX = 3;
+    private static final int CODE_PREFIX = 4;
+    private static final int CONTAINS = 5;
+    private static final int FUZZY = 6;
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    /**
+     * Longitud mínima del término para admitir errores de tecleo
+     */
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    /**
+     * Longitud a partir de la cual se admiten dos errores en lugar de uno
+     */
+    private static final int TWO_TYPOS_LENGTH = 8;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s\\-()/,]+");
+
+    private enum Kind { CODE, NAME, WORD }
+
+    private record Term(String text, int language, Kind kind) {
+    }
+
+    private final List<Language> languages;
+    private final Term[] terms;
+    private final String[] sortedTexts;
+    private final String[][] names;
+    private final String[][] words;
+
+    /**
+     * @param languages Idiomas en el orden en que se devuelven a igual rango
+     */
+    LanguageSearchIndex(List<Language> languages) {
+        this.languages = languages;
+        this.names = new String[languages.size()][];
+        this.words = new String[languages.size()][];
+
+        List<Term> allTerms = new ArrayList<>();
+        for (int i = 0; i < languages.size(); i++) {
+            Language language = languages.get(i);
+            Set<String> languageNames = new LinkedHashSet<>();
+            addIfPresent(languageNames, normalize(language.getName()));
+            addIfPresent(languageNames, normalize(nativeName(language)));
+            Set<String> languageWords = new LinkedHashSet<>();
+            for (String name : languageNames) {
+                allTerms.add(new Term(name, i, Kind.NAME));
+                String[] nameWords = SEPARATORS.split(name);
+                for (int w = 0; w < nameWords.length; w++) {
+                    if (nameWords[w].isEmpty()) {
+                        continue;
+                    }
+                    if (w > 0) {
+                        allTerms.add(new Term(nameWords[w], i, Kind.WORD));
+                    }
+                    languageWords.add(nameWords[w]);
+                }
+            }
+            for (String code : codes(language.getCode())) {
+                allTerms.add(new Term(code, i, Kind.CODE));
+            }
+            names[i] = languageNames.toArray(String[]::new);
+            words[i] = languageWords.toArray(String[]::new);
+        }
+
+        allTerms.sort(Comparator.comparing(Term::text));
+        this.terms = allTerms.toArray(Term[]::new);
+        this.sortedTexts = allTerms.stream().map(Term::text).toArray(String[]::new);
+    }
+
+    /**
+     * Busca idiomas por nombre, nombre nativo o código
+     *
+     * @param query Texto escrito por el usuario (se ignoran mayúsculas y tildes)
+     * @param limit Número máximo de resultados
+     * @return Idiomas encontrados, del más al menos relevante
+     */
+    List<Language> search(String query, int limit) {
+        String term = normalize(query);
+        if (term == null || term.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int[] ranks = new int[languages.size()];
+        Arrays.fill(ranks, NO_MATCH);
+        int matches = matchPrefixes(term, ranks);
+        if (matches < limit) {
+            matchContainsAndTypos(term, ranks);
+        }
+
+        return rankedLanguages(ranks, limit);
+    }
+
+    /**
+     * Recorre el rango de términos que empiezan por el texto buscado
+     */
+    private int matchPrefixes(String term, int[] ranks) {
+        int matches = 0;
+        int position = Arrays.binarySearch(sortedTexts, term);
+        if (position < 0) {
+            position = -position - 1;
+        } else {
+            // Con términos repetidos binarySearch puede caer en cualquiera de ellos
+            while (position > 0 && sortedTexts[position - 1].equals(term)) {
+                position--;
+            }
+        }
+        for (int i = position; i < terms.length && terms[i].text().startsWith(term); i++) {
+            Term match = terms[i];
+            boolean exact = match.text().length() == term.length();
+            int rank = switch (match.kind()) {
+                case CODE -> exact ? EXACT_CODE : CODE_PREFIX;
+                case NAME -> exact ? EXACT_NAME : NAME_PREFIX;
+                case WORD -> WORD_PREFIX;
+            };
+            if (ranks[match.language()] == NO_MATCH) {
+                matches++;
+            }
+            ranks[match.language()] = Math.min(ranks[match.language()], rank);
+        }
+        return matches;
+    }
+
+    private void matchContainsAndTypos(String term, int[] ranks) {
+        int maxTypos = term.length() >= TWO_TYPOS_LENGTH ? 2 : term.length() >= MIN_FUZZY_LENGTH ? 1 : 0;
+        for (int i = 0; i < languages.size(); i++) {
+            if (ranks[i] != NO_MATCH) {
+                continue;
+            }
+            if (anyContains(names[i], term)) {
+                ranks[i] = CONTAINS;
+            } else if (maxTypos > 0 && anyWordSimilar(words[i], term, maxTypos)) {
+                ranks[i] = FUZZY;
+            }
+        }
+    }
+
+    private List<Language> rankedLanguages(int[] ranks, int limit) {
+        // Los idiomas ya están en orden alfabético: basta un orden estable por rango
+        List<Integer> found = new ArrayList<>();
+        for (int i = 0; i < ranks.length; i++) {
+            if (ranks[i] != NO_MATCH) {
+                found.add(i);
+            }
+        }
+        found.sort(Comparator.comparingInt(i -> ranks[i]));
+        return found.stream()
+                .limit(limit)
+                .map(languages::get)
+                .toList();
+    }
+
+    private static boolean anyContains(String[] values, String term) {
+        for (String value : values) {
+            if (value.contains(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compara el término con el principio de cada palabra, con una letra de más
+     * o de menos, para admitir errores también mientras se escribe
+     * La primera letra debe coincidir: evita resultados sin relación con lo escrito
+     */
+    private static boolean anyWordSimilar(String[] values, String term, int maxTypos) {
+        for (String word : values) {
+            if (word.charAt(0) != term.charAt(0)) {
+                continue;
+            }
+            for (int length = term.length() - 1; length <= term.length() + 1; length++) {
+                if (length > 0 && length <= word.length()
+                        && distance(term, word.substring(0, length), maxTypos) <= maxTypos) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Distancia de edición con transposiciones (Damerau-Levenshtein restringida)
+     * Deja de calcular en cuanto se supera el máximo
+     */
+    private static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int rowMin = Integer.MAX_VALUE;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, d[i][j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+
+    /**
+     * Nombre del idioma en el propio idioma, el del catálogo si lo tiene
+     * Si falta o es el mismo nombre en inglés, el de los datos de locale del JDK
+     */
+    private static String nativeName(Language language) {
+        String nativeName = language.getNativeName();
+        if (nativeName != null && !nativeName.isBlank() && !nativeName.equalsIgnoreCase(language.getName())) {
+            return nativeName;
+        }
+        return localeNativeName(language.getCode());
+    }
+
+    /**
+     * Nombre del idioma en el propio idioma, según los datos de locale del JDK
+     * Null si el JDK no conoce el código
+     */
+    private static String localeNativeName(String code) {
+        if (code == null || code.isBlank()) {
+            return null;
+        }
+        Locale locale = Locale.forLanguageTag(code);
+        String name = locale.getDisplayLanguage(locale);
+        return name.isEmpty() || name.equalsIgnoreCase(code) ? null : name;
+    }
+
+    /**
+     * Código ISO 639-1 y, si el JDK lo conoce, ISO 639-2 ("es", "spa")
+     */
+    private static Set<String> codes(String code) {
+        Set<String> codes = new LinkedHashSet<>();
+        addIfPresent(codes, normalize(code));
+        if (code != null && !code.isBlank()) {
+            try {
+                addIfPresent(codes, normalize(Locale.forLanguageTag(code).getISO3Language()));
+            } catch (MissingResourceException e) {
+                // Código sin equivalente ISO 639-2: se indexa solo el original
+            }
+        }
+        return codes;
+    }
+
+    private static void addIfPresent(Set<String> values, String value) {
+        if (value != null && !value.isEmpty()) {
+            values.add(value);
+        }
+    }
+
+    /**
+     * Minúsculas y sin tildes ni diéresis ("Español" -> "espanol")
+     */
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String decomposed = Normalizer.normalize(value.strip(), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,65 @@
+package com.yourteacher.userservice.adapter.out.persistence;
+
+import com.yourteacher.userservice.domain.model.UserLanguage;
+import com.yourteacher.userservice.domain.port.out.ReactiveUserLanguageRepository;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador R2DBC que implementa el puerto ReactiveUserLanguageRepository
+ * El LEFT JOIN desde users devuelve al menos una fila si el usuario existe,
+ * así que la comprobación de existencia no necesita otra consulta
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "database.reactive", name = "enabled", havingValue = "true")
+public class R2dbcUserLanguageRepositoryAdapter implements ReactiveUserLanguageRepository {
+
+    private static final String USER_LANGUAGES_SQL =
+            "SELECT u.id AS user_id, ul.id, ul.language_id, ul.is_native, ul.added_at, ul.version " +
+            "FROM users u " +
+            "LEFT JOIN user_languages ul ON ul.user_id = u.id " +
+            "WHERE u.id = :userId " +
+            "ORDER BY ul.id";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<List<UserLanguage>> findByUserId(Long userId) {
+        return databaseClient.sql(USER_LANGUAGES_SQL)
+                .bind("userId", userId)
+                .map((row, metadata) -> toUserLanguage(row))
+                .all()
+                .collectList()
+                .filter(rows -> !rows.isEmpty())
+                .map(rows -> rows.stream()
+                        .flatMap(Optional::stream)
+                        .toList());
+    }
+
+    /**
+     * @return Optional.empty() para la fila de un usuario sin idiomas
+     */
+    private static Optional<UserLanguage> toUserLanguage(Row row) {
+        Long id = row.get("id", Long.class);
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.of(UserLanguage.builder()
+                .id(id)
+                .userId(row.get("user_id", Long.class))
+                .languageId(row.get("language_id", Long.class))
+                .isNative(Boolean.TRUE.equals(row.get("is_native", Boolean.class)))
+                .addedAt(row.get("added_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build());
+    }
+}
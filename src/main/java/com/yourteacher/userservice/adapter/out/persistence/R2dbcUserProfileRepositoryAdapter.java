@@ -0,0 +1,107 @@
+package com.yourteacher.userservice.adapter.out.persistence;
+
+import com.yourteacher.userservice.adapter.out.persistence.projection.UserProfileRow;
+import com.yourteacher.userservice.domain.model.AuthProvider;
+import com.yourteacher.userservice.domain.model.Role;
+import com.yourteacher.userservice.domain.model.UserProfile;
+import com.yourteacher.userservice.domain.model.UserStatus;
+import com.yourteacher.userservice.domain.port.out.ReactiveUserProfileRepository;
+import io.r2dbc.spi.Row;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Adaptador R2DBC que implementa el puerto ReactiveUserProfileRepository
+ * Ejecuta el mismo JOIN que JpaUserRepository.findProfileRows en SQL nativo
+ * y construye el perfil con UserProfileAssembler
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "database.reactive", name = "enabled", havingValue = "true")
+public class R2dbcUserProfileRepositoryAdapter implements ReactiveUserProfileRepository {
+
+    private static final String PROFILE_SQL =
+            "SELECT u.id, u.email, u.first_name, u.last_name, u.avatar_seed, u.status, u.auth_provider, " +
+            "u.created_at, u.updated_at, r.role, " +
+            "ul.id AS user_language_id, ul.language_id, ul.is_native, ul.added_at, " +
+            "l.name AS language_name, l.code AS language_code, l.flag_url AS language_flag_url, " +
+            "l.created_at AS language_created_at " +
+            "FROM users u " +
+            "LEFT JOIN user_roles r ON r.user_id = u.id " +
+            "LEFT JOIN user_languages ul ON ul.user_id = u.id " +
+            "LEFT JOIN languages l ON l.id = ul.language_id " +
+            "WHERE u.id = :id " +
+            "ORDER BY ul.id";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<UserProfile> findProfileById(Long userId) {
+        return databaseClient.sql(PROFILE_SQL)
+                .bind("id", userId)
+                .map((row, metadata) -> toProfileRow(row))
+                .all()
+                .collectList()
+                .flatMap(rows -> Mono.justOrEmpty(UserProfileAssembler.toProfile(rows)));
+    }
+
+    private static ProfileRow toProfileRow(Row row) {
+        return ProfileRow.builder()
+                .id(row.get("id", Long.class))
+                .email(row.get("email", String.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .avatarSeed(row.get("avatar_seed", String.class))
+                .status(toEnum(UserStatus.class, row.get("status", String.class)))
+                .authProvider(toEnum(AuthProvider.class, row.get("auth_provider", String.class)))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .role(toEnum(Role.class, row.get("role", String.class)))
+                .userLanguageId(row.get("user_language_id", Long.class))
+                .languageId(row.get("language_id", Long.class))
+                .isNative(row.get("is_native", Boolean.class))
+                .addedAt(row.get("added_at", LocalDateTime.class))
+                .languageName(row.get("language_name", String.class))
+                .languageCode(row.get("language_code", String.class))
+                .languageFlagUrl(row.get("language_flag_url", String.class))
+                .languageCreatedAt(row.get("language_created_at", LocalDateTime.class))
+                .build();
+    }
+
+    private static <E extends Enum<E>> E toEnum(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+
+    /**
+     * Fila del perfil leída con R2DBC (las columnas se guardan como @Enumerated(STRING))
+     */
+    @Value
+    @Builder
+    static class ProfileRow implements UserProfileRow {
+        Long id;
+        String email;
+        String firstName;
+        String lastName;
+        String avatarSeed;
+        UserStatus status;
+        AuthProvider authProvider;
+        LocalDateTime createdAt;
+        LocalDateTime updatedAt;
+        Role role;
+        Long userLanguageId;
+        Long languageId;
+        Boolean isNative;
+        LocalDateTime addedAt;
+        String languageName;
+        String languageCode;
+        String languageFlagUrl;
+        LocalDateTime languageCreatedAt;
+    }
+}
@@ -1,13 +1,21 @@
 package com.yourteacher.userservice.adapter.out.persistence;
 
+import com.yourteacher.userservice.adapter.out.persistence.entity.UserLanguageEntity;
 import com.yourteacher.userservice.adapter.out.persistence.mapper.UserLanguageMapper;
+import com.yourteacher.userservice.domain.exception.ConcurrentUpdateException;
+import com.yourteacher.userservice.domain.exception.LanguageAlreadyAddedException;
+import com.yourteacher.userservice.domain.exception.UserNotFoundException;
 import com.yourteacher.userservice.domain.model.UserLanguage;
 import com.yourteacher.userservice.domain.port.out.UserLanguageRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -29,6 +37,49 @@ public class UserLanguageRepositoryAdapter implements UserLanguageRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public UserLanguage insert(UserLanguage userLanguage) {
+        var entity = mapper.toEntity(userLanguage);
+        try {
+            // flush para que las violaciones de restricciones se produzcan aquí y puedan traducirse
+            return mapper.toDomain(jpaRepository.saveAndFlush(entity));
+        } catch (DataIntegrityViolationException e) {
+            String constraint = violatedConstraint(e);
+            if (constraint.contains(UserLanguageEntity.USER_FOREIGN_KEY)) {
+                throw new UserNotFoundException(userLanguage.getUserId());
+            }
+            if (constraint.contains(UserLanguageEntity.USER_LANGUAGE_UNIQUE_KEY)) {
+                throw new LanguageAlreadyAddedException(userLanguage.getUserId(), userLanguage.getLanguageId());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<UserLanguage> insertAll(List<UserLanguage> userLanguages) {
+        var entities = userLanguages.stream()
+                .map(mapper::toEntity)
+                .toList();
+        try {
+            // Un solo flush: Hibernate agrupa los INSERT en un lote JDBC
+            return jpaRepository.saveAllAndFlush(entities).stream()
+                    .map(mapper::toDomain)
+                    .toList();
+        } catch (DataIntegrityViolationException e) {
+            Long userId = userLanguages.get(0).getUserId();
+            String constraint = violatedConstraint(e);
+            if (constraint.contains(UserLanguageEntity.USER_FOREIGN_KEY)) {
+                throw new UserNotFoundException(userId);
+            }
+            if (constraint.contains(UserLanguageEntity.USER_LANGUAGE_UNIQUE_KEY)) {
+                throw new ConcurrentUpdateException("usuario", userId);
+            }
+            throw e;
+        }
+    }
+
     @Override
     public Optional<UserLanguage> findById(Long id) {
         return jpaRepository.findById(id)
@@ -78,6 +129,29 @@ public class UserLanguageRepositoryAdapter implements UserLanguageRepository {
         return jpaRepository.hasNativeLanguage(userId);
     }
 
+    @Override
+    @Transactional
+    public boolean switchNativeLanguage(Long userId, Long languageId) {
+        try {
+            return jpaRepository.switchNativeLanguage(userId, languageId) > 0;
+        } catch (DataIntegrityViolationException e) {
+            // La restricción de un solo idioma nativo por usuario detectó otro cambio simultáneo
+            throw new ConcurrentUpdateException("usuario", userId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteLearningLanguage(Long userId, Long languageId) {
+        return jpaRepository.deleteLearningLanguage(userId, languageId) > 0;
+    }
+
+    @Override
+    @Transactional
+    public int deleteLearningLanguages(Long userId, Collection<Long> languageIds) {
+        return jpaRepository.deleteLearningLanguages(userId, languageIds);
+    }
+
     @Override
     @Transactional
     public void deleteById(Long id) {
@@ -105,4 +179,16 @@ public class UserLanguageRepositoryAdapter implements UserLanguageRepository {
     public long countByLanguageId(Long languageId) {
         return jpaRepository.countByLanguageId(languageId);
     }
+
+    /**
+     * Nombre (en minúsculas) de la restricción violada, según lo extrae el dialecto de Hibernate
+     */
+    private String violatedConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        return "";
+    }
 }
@@ -0,0 +1,93 @@
+package com.yourteacher.userservice.adapter.out.persistence;
+
+import com.yourteacher.userservice.adapter.out.persistence.projection.UserProfileRow;
+import com.yourteacher.userservice.domain.model.Language;
+import com.yourteacher.userservice.domain.model.Role;
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserLanguage;
+import com.yourteacher.userservice.domain.model.UserProfile;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Construye el perfil de usuario desde las filas del JOIN
+ * users + user_roles + user_languages + languages, sin pasar por las entidades
+ * JPA ni sus mappers. Lo comparten el adaptador JPA y el reactivo (R2DBC).
+ */
+final class UserProfileAssembler {
+
+    private UserProfileAssembler() {
+    }
+
+    /**
+     * @param rows Filas del perfil de un usuario, ordenadas por ID de la relación usuario-idioma
+     * @return Optional con el perfil, Optional.empty() si no hay filas (el usuario no existe)
+     */
+    static Optional<UserProfile> toProfile(List<? extends UserProfileRow> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        // El JOIN repite cada idioma por cada rol: se agrupan por ID de la relación
+        Map<Long, UserLanguage> languages = new LinkedHashMap<>();
+        Map<Long, Language> languageDetails = new HashMap<>();
+
+        for (UserProfileRow row : rows) {
+            if (row.getRole() != null) {
+                roles.add(row.getRole());
+            }
+            if (row.getUserLanguageId() != null) {
+                languages.computeIfAbsent(row.getUserLanguageId(), id -> toUserLanguage(row));
+                if (row.getLanguageName() != null) {
+                    languageDetails.computeIfAbsent(row.getLanguageId(), id -> toLanguage(row));
+                }
+            }
+        }
+
+        User user = toUser(rows.get(0), roles);
+        return Optional.of(new UserProfile(user, new ArrayList<>(languages.values()), languageDetails));
+    }
+
+    private static User toUser(UserProfileRow row, Set<Role> roles) {
+        return User.builder()
+                .id(row.getId())
+                .email(row.getEmail())
+                .firstName(row.getFirstName())
+                .lastName(row.getLastName())
+                .avatarSeed(row.getAvatarSeed())
+                .roles(roles)
+                .status(row.getStatus())
+                .authProvider(row.getAuthProvider())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
+    private static UserLanguage toUserLanguage(UserProfileRow row) {
+        return UserLanguage.builder()
+                .id(row.getUserLanguageId())
+                .userId(row.getId())
+                .languageId(row.getLanguageId())
+                .isNative(Boolean.TRUE.equals(row.getIsNative()))
+                .addedAt(row.getAddedAt())
+                .build();
+    }
+
+    private static Language toLanguage(UserProfileRow row) {
+        return Language.builder()
+                .id(row.getLanguageId())
+                .name(row.getLanguageName())
+                .code(row.getLanguageCode())
+                .flagUrl(row.getLanguageFlagUrl())
+                .createdAt(row.getLanguageCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.yourteacher.userservice.adapter.out.persistence;
+
+import com.yourteacher.userservice.domain.model.UserProfile;
+import com.yourteacher.userservice.domain.port.out.UserProfileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Adaptador de persistencia que implementa el puerto UserProfileRepository
+ * Construye el perfil directamente desde las filas del JOIN, sin pasar por
+ * las entidades JPA ni sus mappers
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileRepositoryAdapter implements UserProfileRepository {
+
+    private final JpaUserRepository jpaRepository;
+
+    @Override
+    public Optional<UserProfile> findProfileById(Long userId) {
+        return UserProfileAssembler.toProfile(jpaRepository.findProfileRows(userId));
+    }
+}
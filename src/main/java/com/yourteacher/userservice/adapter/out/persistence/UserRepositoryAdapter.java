@@ -1,15 +1,27 @@
 package com.yourteacher.userservice.adapter.out.persistence;
 
+import com.yourteacher.userservice.adapter.out.persistence.entity.UserEntity;
 import com.yourteacher.userservice.adapter.out.persistence.mapper.UserMapper;
+import com.yourteacher.userservice.domain.model.Role;
 import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserFilter;
+import com.yourteacher.userservice.domain.model.UserPage;
 import com.yourteacher.userservice.domain.model.UserStatus;
 import com.yourteacher.userservice.domain.port.out.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adaptador de persistencia que implementa el puerto UserRepository
@@ -21,6 +33,7 @@ public class UserRepositoryAdapter implements UserRepository {
     
     private final JpaUserRepository jpaRepository;
     private final UserMapper mapper;
+    private final EntityManager entityManager;
     
     @Override
     public User save(User user) {
@@ -42,17 +55,67 @@ public class UserRepositoryAdapter implements UserRepository {
     }
     
     @Override
-    public List<User> findAll() {
-        return jpaRepository.findAll().stream()
+    public UserPage findPage(UserFilter filter, Long afterId, int limit) {
+        // Se pide un usuario más del límite para saber si hay página siguiente
+        List<User> users = jpaRepository.findPageAfter(
+                        afterId != null ? afterId : 0L,
+                        filter.getStatus(),
+                        filter.getAuthProvider(),
+                        filter.getRole(),
+                        PageRequest.ofSize(limit + 1)).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
+
+        if (users.size() <= limit) {
+            return new UserPage(users, null);
+        }
+        List<User> page = users.subList(0, limit);
+        return new UserPage(List.copyOf(page), page.get(limit - 1).getId());
+    }
+    
+    @Override
+    public Stream<User> streamUsers(UserStatus status, LocalDateTime updatedSince) {
+        return jpaRepository.streamForExport(status, updatedSince)
+                .map(entity -> {
+                    User user = mapper.toDomain(entity);
+                    // Sacar la entidad del contexto de persistencia para que la memoria no crezca
+                    entityManager.detach(entity);
+                    return user;
+                });
     }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
         return jpaRepository.existsByEmail(email);
     }
     
+    @Override
+    public boolean existsById(Long id) {
+        return jpaRepository.existsById(id);
+    }
+    
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findExistingEmails(emails));
+    }
+    
+    @Override
+    @Transactional
+    public List<User> insertAll(List<User> users) {
+        // Con IDs de secuencia, Hibernate envía los INSERT de usuarios y roles en lotes JDBC
+        List<UserEntity> entities = jpaRepository.saveAll(users.stream()
+                .map(mapper::toEntity)
+                .toList());
+        entityManager.flush();
+        return entities.stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+    
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
@@ -64,4 +127,38 @@ public class UserRepositoryAdapter implements UserRepository {
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
+    
+    @Override
+    @Transactional
+    public boolean replacePasswordHash(Long id, String currentEncodedPassword, String newEncodedPassword) {
+        return jpaRepository.replacePasswordHash(id, currentEncodedPassword, newEncodedPassword) > 0;
+    }
+    
+    @Override
+    public boolean updatePassword(Long id, String encodedPassword, LocalDateTime updatedAt, long version) {
+        return jpaRepository.updatePassword(id, encodedPassword, updatedAt, version) > 0;
+    }
+    
+    @Override
+    public boolean updateStatus(Long id, UserStatus status, LocalDateTime updatedAt, long version) {
+        return jpaRepository.updateStatus(id, status, updatedAt, version) > 0;
+    }
+    
+    @Override
+    public boolean updateEmail(Long id, String email, LocalDateTime updatedAt, long version) {
+        return jpaRepository.updateEmail(id, email, updatedAt, version) > 0;
+    }
+    
+    @Override
+    public boolean updateNames(Long id, String firstName, String lastName, LocalDateTime updatedAt, long version) {
+        return jpaRepository.updateNames(id, firstName, lastName, updatedAt, version) > 0;
+    }
+    
+    @Override
+    public void replaceRoles(Long id, Set<Role> roles) {
+        jpaRepository.deleteRoles(id);
+        for (Role role : roles) {
+            jpaRepository.insertRole(id, role.name());
+        }
+    }
 }
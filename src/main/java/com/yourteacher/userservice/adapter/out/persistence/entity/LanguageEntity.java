@@ -21,12 +21,16 @@ import java.time.LocalDateTime;
 public class LanguageEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "languages_seq")
+    @SequenceGenerator(name = "languages_seq", sequenceName = "languages_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
     private String name;
 
+    @Column(name = "native_name", nullable = false, length = 100)
+    private String nativeName;  // Nombre en el propio idioma (ej: "Español")
+
     @Column(nullable = false, length = 2, unique = true)
     private String code;  // ISO 639-1
 
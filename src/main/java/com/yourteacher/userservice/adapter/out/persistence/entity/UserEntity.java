@@ -24,8 +24,11 @@ import java.util.Set;
 @AllArgsConstructor
 public class UserEntity {
     
+    // Secuencia con reserva de IDs por bloques (pooled): Hibernate no necesita
+    // insertar cada fila para conocer su ID y puede agrupar los INSERT en lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true, length = 100)
@@ -63,6 +66,11 @@ public class UserEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // Control de concurrencia optimista: las escrituras comprueban y aumentan la versión
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 
@@ -14,20 +18,36 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "user_languages",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "language_id"}))
+       uniqueConstraints = @UniqueConstraint(name = UserLanguageEntity.USER_LANGUAGE_UNIQUE_KEY,
+                                             columnNames = {"user_id", "language_id"}))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserLanguageEntity {
 
+    // Nombres de las restricciones (los mismos que en database/schema*.sql): el adaptador
+    // traduce sus violaciones a excepciones de dominio en lugar de comprobar antes de insertar
+    public static final String USER_LANGUAGE_UNIQUE_KEY = "uk_user_language";
+    public static final String USER_FOREIGN_KEY = "fk_user_languages_user";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_languages_seq")
+    @SequenceGenerator(name = "user_languages_seq", sequenceName = "user_languages_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
+    // Solo declara la clave foránea hacia users (ON DELETE CASCADE, como en el esquema); nunca se carga ni se escribe
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", insertable = false, updatable = false,
+                foreignKey = @ForeignKey(name = USER_FOREIGN_KEY))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private UserEntity user;
+
     @Column(name = "language_id", nullable = false)
     private Long languageId;
 
@@ -37,6 +57,10 @@ public class UserLanguageEntity {
     @Column(name = "added_at", nullable = false, updatable = false)
     private LocalDateTime addedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         if (addedAt == null) {
@@ -25,6 +25,7 @@ public class LanguageMapper {
         return Language.builder()
                 .id(entity.getId())
                 .name(entity.getName())
+                .nativeName(entity.getNativeName())
                 .code(entity.getCode())
                 .flagUrl(entity.getFlagUrl())
                 .createdAt(entity.getCreatedAt())
@@ -42,6 +43,7 @@ public class LanguageMapper {
         return LanguageEntity.builder()
                 .id(domain.getId())
                 .name(domain.getName())
+                .nativeName(domain.getNativeName())
                 .code(domain.getCode())
                 .flagUrl(domain.getFlagUrl())
                 .createdAt(domain.getCreatedAt())
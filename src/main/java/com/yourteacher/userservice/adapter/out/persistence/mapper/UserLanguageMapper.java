@@ -28,6 +28,7 @@ public class UserLanguageMapper {
                 .languageId(entity.getLanguageId())
                 .isNative(entity.isNative())
                 .addedAt(entity.getAddedAt())
+                .version(entity.getVersion())
                 .build();
     }
 
@@ -45,6 +46,7 @@ public class UserLanguageMapper {
                 .languageId(domain.getLanguageId())
                 .isNative(domain.isNative())
                 .addedAt(domain.getAddedAt())
+                .version(domain.getVersion())
                 .build();
     }
 
@@ -31,6 +31,7 @@ public class UserMapper {
                 .authProvider(entity.getAuthProvider())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
+                .version(entity.getVersion())
                 .build();
     }
     
@@ -54,6 +55,7 @@ public class UserMapper {
                 .authProvider(domain.getAuthProvider())
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
+                .version(domain.getVersion())
                 .build();
     }
 }
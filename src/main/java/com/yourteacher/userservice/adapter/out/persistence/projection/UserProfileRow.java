@@ -0,0 +1,53 @@
+package com.yourteacher.userservice.adapter.out.persistence.projection;
+
+import com.yourteacher.userservice.domain.model.AuthProvider;
+import com.yourteacher.userservice.domain.model.Role;
+import com.yourteacher.userservice.domain.model.UserStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de una fila del perfil de usuario
+ * Cada fila combina el usuario con uno de sus roles y uno de sus idiomas
+ * (JOIN users + user_roles + user_languages + languages)
+ *
+ * Los campos de rol e idioma son null si el usuario no tiene roles o idiomas.
+ */
+public interface UserProfileRow {
+
+    Long getId();
+
+    String getEmail();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getAvatarSeed();
+
+    UserStatus getStatus();
+
+    AuthProvider getAuthProvider();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Role getRole();
+
+    Long getUserLanguageId();
+
+    Long getLanguageId();
+
+    Boolean getIsNative();
+
+    LocalDateTime getAddedAt();
+
+    String getLanguageName();
+
+    String getLanguageCode();
+
+    String getLanguageFlagUrl();
+
+    LocalDateTime getLanguageCreatedAt();
+}
@@ -1,27 +1,263 @@
 package com.yourteacher.userservice.adapter.out.security;
 
+import com.yourteacher.userservice.domain.exception.HashingCapacityExceededException;
 import com.yourteacher.userservice.domain.port.out.PasswordEncoder;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Adaptador para encriptación de contraseñas usando BCrypt
  * Implementa el puerto PasswordEncoder del dominio
+ *
+ * BCrypt consume decenas de milisegundos de CPU por operación, por lo que se
+ * ejecuta en un pool de hilos propio y acotado en lugar de en los hilos de
+ * Tomcat. Cuando la cola del pool está llena, o una tarea ha esperado más de
+ * lo permitido, la operación se rechaza con HashingCapacityExceededException
+ * (429): una ráfaga de logins degrada solo los logins y no el resto del servicio.
+ *
+ * Las contraseñas encriptadas con un coste menor al configurado se marcan para
+ * volver a encriptarse (upgradeEncoding). Nunca se baja el coste de un hash.
+ *
+ * Las importaciones masivas (encodeAll) reparten el trabajo entre todos los hilos
+ * del pool, pero entre todas nunca tienen más tareas pendientes que hilos: los
+ * logins interactivos esperan como mucho una ronda de hashes de importación.
+ * Si el pool está saturado, la importación espera (contrapresión) y BCrypt
+ * nunca se ejecuta en el hilo de la petición.
  */
 @Component
-@RequiredArgsConstructor
+@Slf4j
 public class BcryptPasswordEncoderAdapter implements PasswordEncoder {
-    
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final long BULK_RETRY_INTERVAL_MS = 10;
+
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
-    
+    private final int strength;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final int poolSize;
+    private final Duration maxQueueWait;
+    private final Duration retryAfter;
+    // Tareas de importación pendientes o en ejecución, de todas las importaciones
+    private final Semaphore bulkPermits;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public BcryptPasswordEncoderAdapter(
+            BCryptPasswordEncoder bCryptPasswordEncoder,
+            BcryptStrengthCalibrator strengthCalibrator,
+            MeterRegistry meterRegistry,
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${security.password-hashing.max-queue-wait:PT2S}") Duration maxQueueWait,
+            @Value("${security.password-hashing.retry-after:PT1S}") Duration retryAfter) {
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.strength = strengthCalibrator.getStrength();
+        this.maxQueueWait = maxQueueWait;
+        this.retryAfter = retryAfter;
+
+        this.poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.bulkPermits = new Semaphore(poolSize, true);
+        this.hashingExecutor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                hashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hash.duration")
+                .description("Tiempo de CPU de cada operación BCrypt")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration")
+                .description("Tiempo de CPU de cada operación BCrypt")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait")
+                .description("Tiempo de espera en cola antes de ejecutar una operación BCrypt")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("Operaciones BCrypt rechazadas por saturación")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.size", hashingExecutor, executor -> executor.getQueue().size())
+                .description("Operaciones BCrypt en espera")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", hashingExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("Operaciones BCrypt en ejecución")
+                .register(meterRegistry);
+
+        log.info("Password hashing pool initialized with {} threads and queue capacity {}",
+                poolSize, queueCapacity);
+    }
+
     @Override
     public String encode(String rawPassword) {
-        return bCryptPasswordEncoder.encode(rawPassword);
+        return execute(encodeTimer, () -> bCryptPasswordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                futures.add(submitBulk(() -> bCryptPasswordEncoder.encode(rawPassword)));
+            }
+        } catch (RuntimeException e) {
+            // No gastar CPU en el resto de una importación que ya ha fallado
+            futures.forEach(future -> future.cancel(false));
+            throw e;
+        }
+
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        for (Future<String> future : futures) {
+            encoded.add(await(future));
+        }
+        return encoded;
     }
-    
+
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return bCryptPasswordEncoder.matches(rawPassword, encodedPassword);
+        return execute(matchesTimer, () -> bCryptPasswordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        // Solo hacia arriba: un coste mayor (otra configuración, un despliegue anterior) se conserva
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
+    /**
+     * Ejecuta una operación BCrypt en el pool de hashing y espera su resultado
+     */
+    private <T> T execute(Timer operationTimer, Callable<T> operation) {
+        return await(submit(operationTimer, operation));
+    }
+
+    private <T> Future<T> submit(Timer operationTimer, Callable<T> operation) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = hashingExecutor.submit(() -> {
+                long waitNanos = System.nanoTime() - enqueuedAt;
+                queueWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+                if (waitNanos > maxQueueWait.toNanos()) {
+                    // El cliente ya esperó demasiado: no gastar CPU en una respuesta tardía
+                    throw reject();
+                }
+                return operationTimer.recordCallable(operation);
+            });
+        } catch (RejectedExecutionException e) {
+            throw reject();
+        }
+        return future;
+    }
+
+    /**
+     * Encola una operación de una importación masiva
+     *
+     * Espera a que haya un permiso libre (como mucho tantas tareas de importación
+     * como hilos) y, si la cola está llena de operaciones interactivas, reintenta
+     * hasta max-queue-wait antes de rechazar con HashingCapacityExceededException.
+     * La espera bloquea al productor, nunca ejecuta BCrypt en su hilo.
+     */
+    private Future<String> submitBulk(Callable<String> operation) {
+        long deadline = System.nanoTime() + maxQueueWait.toNanos();
+        try {
+            if (!bulkPermits.tryAcquire(maxQueueWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw reject();
+            }
+            long enqueuedAt = System.nanoTime();
+            FutureTask<String> task = new FutureTask<>(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return encodeTimer.recordCallable(operation);
+            }) {
+                @Override
+                protected void done() {
+                    bulkPermits.release();
+                }
+            };
+            while (true) {
+                try {
+                    hashingExecutor.execute(task);
+                    return task;
+                } catch (RejectedExecutionException e) {
+                    if (hashingExecutor.isShutdown() || System.nanoTime() >= deadline) {
+                        bulkPermits.release();
+                        throw reject();
+                    }
+                    TimeUnit.MILLISECONDS.sleep(BULK_RETRY_INTERVAL_MS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private HashingCapacityExceededException reject() {
+        rejectedCounter.increment();
+        log.warn("Password hashing rejected: pool saturated ({} queued)", hashingExecutor.getQueue().size());
+        return new HashingCapacityExceededException(retryAfter);
+    }
+
+    private static ThreadFactory hashingThreadFactory() {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 }
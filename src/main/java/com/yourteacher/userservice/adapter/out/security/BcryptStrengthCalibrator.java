@@ -0,0 +1,100 @@
+package com.yourteacher.userservice.adapter.out.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Calibra el coste (strength) de BCrypt al arrancar el servicio
+ *
+ * Cada incremento del coste duplica el tiempo de hash. Se mide el tiempo de un
+ * hash con el coste de referencia en el hardware actual y se extrapola el coste
+ * cuyo tiempo más se acerca al objetivo sin superarlo, acotado entre el mínimo
+ * y el máximo configurados.
+ *
+ * Si se configura un strength explícito (distinto de 0) no se calibra.
+ *
+ * La calibración depende del hardware y de la carga de cada instancia: dos
+ * instancias pueden obtener costes distintos. Solo sirve para una instancia
+ * (desarrollo) o para averiguar el valor que se fija después en la
+ * configuración. Con allow-calibration=false (perfil prod) el strength es
+ * obligatorio y el servicio no arranca sin él.
+ */
+@Component
+@Slf4j
+public class BcryptStrengthCalibrator {
+
+    private static final int REFERENCE_STRENGTH = 10;
+    private static final int SAMPLES = 3;
+
+    private final int strength;
+
+    public BcryptStrengthCalibrator(
+            @Value("${security.password-hashing.strength:0}") int configuredStrength,
+            @Value("${security.password-hashing.target-duration:PT0.25S}") Duration targetDuration,
+            @Value("${security.password-hashing.min-strength:10}") int minStrength,
+            @Value("${security.password-hashing.max-strength:14}") int maxStrength,
+            @Value("${security.password-hashing.allow-calibration:true}") boolean allowCalibration) {
+        if (configuredStrength > 0) {
+            this.strength = configuredStrength;
+            log.info("Using configured BCrypt strength {}", strength);
+        } else if (!allowCalibration) {
+            throw new IllegalStateException(
+                    "security.password-hashing.strength es obligatorio: todas las instancias deben usar el mismo coste BCrypt");
+        } else {
+            this.strength = calibrate(targetDuration, minStrength, maxStrength);
+        }
+    }
+
+    /**
+     * Obtiene el coste BCrypt con el que se deben encriptar las contraseñas
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    private int calibrate(Duration targetDuration, int minStrength, int maxStrength) {
+        long referenceNanos = measureReferenceHash();
+        int calibrated = strengthFor(targetDuration.toNanos(), referenceNanos, minStrength, maxStrength);
+        log.info("Calibrated BCrypt strength {} (reference cost {} took {} ms, target {} ms); "
+                        + "set PASSWORD_HASHING_STRENGTH={} to use it on every instance",
+                calibrated, REFERENCE_STRENGTH, referenceNanos / 1_000_000, targetDuration.toMillis(), calibrated);
+        return calibrated;
+    }
+
+    /**
+     * Calcula el coste cuyo tiempo estimado no supera el objetivo
+     *
+     * @param targetNanos Tiempo objetivo por hash
+     * @param referenceNanos Tiempo medido con el coste de referencia
+     * @return Coste acotado entre minStrength y maxStrength
+     */
+    static int strengthFor(long targetNanos, long referenceNanos, int minStrength, int maxStrength) {
+        int strength = REFERENCE_STRENGTH;
+        if (referenceNanos > 0 && targetNanos > 0) {
+            double doublings = Math.log((double) targetNanos / referenceNanos) / Math.log(2);
+            strength = REFERENCE_STRENGTH + (int) Math.floor(doublings);
+        }
+        return Math.max(minStrength, Math.min(maxStrength, Math.max(strength, 4)));
+    }
+
+    private long measureReferenceHash() {
+        // Calentamiento del JIT con un coste bajo para no penalizar la medición
+        String warmUpSalt = BCrypt.gensalt(4);
+        for (int i = 0; i < 10; i++) {
+            BCrypt.hashpw("calibration", warmUpSalt);
+        }
+
+        String salt = BCrypt.gensalt(REFERENCE_STRENGTH);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration", salt);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
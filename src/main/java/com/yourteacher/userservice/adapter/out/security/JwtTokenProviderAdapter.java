@@ -1,19 +1,29 @@
 package com.yourteacher.userservice.adapter.out.security;
 
+import com.yourteacher.userservice.domain.model.Role;
 import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserStatus;
 import com.yourteacher.userservice.domain.port.out.JwtTokenProvider;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Adaptador para generación y validación de JWT tokens
@@ -24,14 +34,36 @@ import java.util.Map;
 public class JwtTokenProviderAdapter implements JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long jwtExpiration;
 
+    private final Timer signTimer;
+    private final Timer verifyTimer;
+    private final Timer rejectedTimer;
+
     public JwtTokenProviderAdapter(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long jwtExpiration) {
+            @Value("${jwt.expiration}") long jwtExpiration,
+            MeterRegistry meterRegistry) {
         // Crear SecretKey desde el string de configuración
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // El parser es inmutable y thread-safe: se construye una sola vez
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.jwtExpiration = jwtExpiration;
+
+        this.signTimer = jwtTimer(meterRegistry, "sign", "success");
+        this.verifyTimer = jwtTimer(meterRegistry, "verify", "success");
+        this.rejectedTimer = jwtTimer(meterRegistry, "verify", "invalid");
+    }
+
+    private static Timer jwtTimer(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Timer.builder("jwt.duration")
+                .description("Tiempo de firma y verificación de tokens JWT")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     @Override
@@ -41,23 +73,28 @@ public class JwtTokenProviderAdapter implements JwtTokenProvider {
         claims.put("email", user.getEmail());
         claims.put("firstName", user.getFirstName());
         claims.put("lastName", user.getLastName());
+        // Claims para la autenticación stateless (ver JwtAuthenticationFilter)
+        if (user.getRoles() != null) {
+            claims.put("roles", user.getRoles().stream().map(Role::name).sorted().toList());
+        }
+        if (user.getStatus() != null) {
+            claims.put("status", user.getStatus().name());
+        }
+        claims.put("ver", user.getStateVersion());
 
-        return Jwts.builder()
+        return signTimer.record(() -> Jwts.builder()
                 .claims(claims)
                 .subject(user.getEmail())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + jwtExpiration))
                 .signWith(secretKey)
-                .compact();
+                .compact());
     }
 
     @Override
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            getClaims(token);
             return true;
         } catch (Exception e) {
             log.error("Error validating JWT token: {}", e.getMessage());
@@ -76,14 +113,72 @@ public class JwtTokenProviderAdapter implements JwtTokenProvider {
         return claims.get("userId", Long.class);
     }
 
+    @Override
+    public Optional<TokenClaims> parseToken(String token) {
+        Claims claims;
+        try {
+            claims = getClaims(token);
+        } catch (Exception e) {
+            log.error("Error validating JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+
+        return Optional.of(TokenClaims.builder()
+                .subject(claims.getSubject())
+                .userId(claims.get("userId", Long.class))
+                .roles(getRoles(claims))
+                .status(getStatus(claims))
+                .stateVersion(claims.get("ver", Long.class))
+                .expiresAt(claims.getExpiration() != null ? claims.getExpiration().toInstant() : null)
+                .build());
+    }
+
     /**
-     * Extrae los claims de un token JWT
+     * Extrae los claims de un token JWT, midiendo por separado los tokens rechazados
      */
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        long start = System.nanoTime();
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token)
+                    .getPayload();
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return claims;
+        } catch (RuntimeException e) {
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * Extrae los roles del claim "roles", ignorando valores desconocidos
+     */
+    private Set<Role> getRoles(Claims claims) {
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        if (claims.get("roles") instanceof Collection<?> values) {
+            for (Object value : values) {
+                try {
+                    roles.add(Role.valueOf(String.valueOf(value)));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Ignoring unknown role in JWT token: {}", value);
+                }
+            }
+        }
+        return Set.copyOf(roles);
+    }
+
+    /**
+     * Extrae el estado del usuario del claim "status", null si no existe o es desconocido
+     */
+    private UserStatus getStatus(Claims claims) {
+        String status = claims.get("status", String.class);
+        if (status == null) {
+            return null;
+        }
+        try {
+            return UserStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring unknown status in JWT token: {}", status);
+            return null;
+        }
     }
 }
@@ -0,0 +1,47 @@
+package com.yourteacher.userservice.application.service;
+
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserStatus;
+import com.yourteacher.userservice.domain.port.in.ExportUsersUseCase;
+import com.yourteacher.userservice.domain.port.out.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Implementación del caso de uso de exportación de usuarios (Application Layer)
+ *
+ * Recorre los usuarios con un cursor de base de datos dentro de una única
+ * transacción de solo lectura, por lo que la memoria usada no depende del
+ * número de usuarios.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportUsersService implements ExportUsersUseCase {
+
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportUsers(UserStatus status, LocalDateTime updatedSince, Consumer<User> consumer) {
+        log.info("Exporting users (status: {}, updatedSince: {})", status, updatedSince);
+
+        AtomicLong exported = new AtomicLong();
+        try (Stream<User> users = userRepository.streamUsers(status, updatedSince)) {
+            users.forEach(user -> {
+                consumer.accept(user);
+                exported.incrementAndGet();
+            });
+        }
+
+        log.info("Exported {} users", exported.get());
+        return exported.get();
+    }
+}
@@ -1,13 +1,15 @@
 package com.yourteacher.userservice.application.service;
 
 import com.yourteacher.userservice.domain.model.Language;
+import com.yourteacher.userservice.domain.model.LanguageCatalogVersion;
 import com.yourteacher.userservice.domain.port.in.GetLanguageCatalogUseCase;
 import com.yourteacher.userservice.domain.port.out.LanguageRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,10 +18,12 @@ import java.util.Optional;
  *
  * Este servicio proporciona acceso de solo lectura al catálogo de idiomas,
  * permitiendo buscar idiomas por diversos criterios y obtener listas recomendadas.
+ *
+ * No es transaccional: el repositorio sirve el catálogo desde memoria, y abrir
+ * una transacción obligaría a obtener una conexión JDBC en cada consulta.
  */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class GetLanguageCatalogService implements GetLanguageCatalogUseCase {
 
     private final LanguageRepository languageRepository;
@@ -52,6 +56,20 @@ public class GetLanguageCatalogService implements GetLanguageCatalogUseCase {
         return languageRepository.findById(id);
     }
 
+    /**
+     * Busca varios idiomas por sus IDs en una sola consulta
+     *
+     * @param ids IDs de los idiomas a buscar
+     * @return Mapa de ID a idioma con los idiomas encontrados, en el orden de los IDs pedidos
+     */
+    @Override
+    public Map<Long, Language> getLanguagesByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        return languageRepository.findAllByIds(ids);
+    }
+
     /**
      * Busca un idioma específico por su código ISO 639-1
      *
@@ -95,19 +113,24 @@ public class GetLanguageCatalogService implements GetLanguageCatalogUseCase {
     }
 
     /**
-     * Busca idiomas cuyo nombre contenga el texto especificado
+     * Busca idiomas por nombre, nombre nativo o código ISO
      *
-     * La búsqueda es case-insensitive y busca coincidencias parciales.
+     * La búsqueda ignora mayúsculas y tildes y ordena por relevancia.
      *
-     * @param searchTerm Texto a buscar en el nombre del idioma
+     * @param searchTerm Texto a buscar
+     * @param limit Número máximo de resultados
      * @return Lista de idiomas que coinciden con la búsqueda
      */
     @Override
-    public List<Language> searchLanguagesByName(String searchTerm) {
+    public List<Language> searchLanguagesByName(String searchTerm, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException(
+                    "El número de resultados debe estar entre 1 y " + MAX_SEARCH_LIMIT);
+        }
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return List.of();
         }
-        return languageRepository.searchByName(searchTerm.trim());
+        return languageRepository.searchByName(searchTerm.trim(), limit);
     }
 
     /**
@@ -139,4 +162,14 @@ public class GetLanguageCatalogService implements GetLanguageCatalogUseCase {
         }
         return languageRepository.existsByCode(code.toLowerCase());
     }
+
+    /**
+     * Obtiene la versión actual del catálogo de idiomas
+     *
+     * @return Versión del catálogo
+     */
+    @Override
+    public LanguageCatalogVersion getCatalogVersion() {
+        return languageRepository.getCatalogVersion();
+    }
 }
@@ -1,44 +1,39 @@
 package com.yourteacher.userservice.application.service;
 
 import com.yourteacher.userservice.domain.exception.UserNotFoundException;
-import com.yourteacher.userservice.domain.model.User;
-import com.yourteacher.userservice.domain.model.UserLanguage;
+import com.yourteacher.userservice.domain.model.UserProfile;
 import com.yourteacher.userservice.domain.port.in.GetUserProfileUseCase;
-import com.yourteacher.userservice.domain.port.out.UserLanguageRepository;
-import com.yourteacher.userservice.domain.port.out.UserRepository;
+import com.yourteacher.userservice.domain.port.out.UserProfileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 /**
  * Implementación del caso de uso para obtener perfil de usuario (Application Layer)
  * Orquesta la obtención de datos de usuario con sus idiomas
+ *
+ * El perfil se lee con una única consulta a través del modelo de lectura
+ * UserProfileRepository (usuario, roles, idiomas y datos de catálogo).
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GetUserProfileService implements GetUserProfileUseCase {
 
-    private final UserRepository userRepository;
-    private final UserLanguageRepository userLanguageRepository;
+    private final UserProfileRepository userProfileRepository;
 
     @Override
     @Transactional(readOnly = true)
     public UserProfile getUserProfile(Long userId) {
         log.debug("Getting profile for user ID: {}", userId);
 
-        // Obtener usuario
-        User user = userRepository.findById(userId)
+        UserProfile profile = userProfileRepository.findProfileById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
-        // Obtener idiomas del usuario
-        List<UserLanguage> languages = userLanguageRepository.findByUserId(userId);
-
-        log.debug("Found user {} with {} languages", user.getEmail(), languages.size());
+        log.debug("Found user {} with {} languages",
+                profile.getUser().getEmail(), profile.getLanguages().size());
 
-        return new UserProfile(user, languages);
+        return profile;
     }
 }
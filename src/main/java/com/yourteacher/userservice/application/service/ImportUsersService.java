@@ -0,0 +1,180 @@
+package com.yourteacher.userservice.application.service;
+
+import com.yourteacher.userservice.domain.model.AuthProvider;
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserStatus;
+import com.yourteacher.userservice.domain.port.in.ImportUsersUseCase;
+import com.yourteacher.userservice.domain.port.out.PasswordEncoder;
+import com.yourteacher.userservice.domain.port.out.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Implementación del caso de uso de importación masiva de usuarios (Application Layer)
+ *
+ * Cada bloque de filas se procesa así:
+ * 1. Validación y detección de emails repetidos dentro del fichero
+ * 2. Una sola consulta IN para descartar los emails ya registrados
+ * 3. Encriptado de las contraseñas en paralelo en el pool de hashing
+ * 4. Inserción en lote de usuarios y roles en una transacción por bloque
+ *
+ * El servicio no es transaccional: el encriptado (la parte más lenta) no
+ * retiene ninguna conexión de base de datos.
+ */
+@Service
+@Slf4j
+public class ImportUsersService implements ImportUsersUseCase {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final int chunkSize;
+
+    public ImportUsersService(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            @Value("${user-import.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1 || chunkSize > 1000) {
+            throw new IllegalArgumentException("user-import.chunk-size debe estar entre 1 y 1000");
+        }
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ImportSummary importUsers(Stream<ImportRow> rows, Consumer<List<ImportResult>> resultConsumer) {
+        Map<ImportStatus, Long> counts = new EnumMap<>(ImportStatus.class);
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        Iterator<ImportRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                List<ImportResult> results = processChunk(chunk, seenEmails);
+                results.forEach(result -> counts.merge(result.getStatus(), 1L, Long::sum));
+                resultConsumer.accept(results);
+                chunk.clear();
+            }
+        }
+
+        ImportSummary summary = new ImportSummary(
+                counts.values().stream().mapToLong(Long::longValue).sum(),
+                counts.getOrDefault(ImportStatus.CREATED, 0L),
+                counts.getOrDefault(ImportStatus.DUPLICATE, 0L),
+                counts.getOrDefault(ImportStatus.INVALID, 0L),
+                counts.getOrDefault(ImportStatus.FAILED, 0L));
+        log.info("User import finished: {}", summary);
+        return summary;
+    }
+
+    private List<ImportResult> processChunk(List<ImportRow> chunk, Set<String> seenEmails) {
+        List<ImportResult> results = new ArrayList<>(chunk.size());
+
+        // 1. Validar y descartar emails repetidos en el propio fichero
+        List<ImportRow> candidates = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            User user = row.getUser();
+            if (row.getError() != null) {
+                results.add(result(row, ImportStatus.INVALID, null, row.getError()));
+            } else if (!user.hasValidEmail()) {
+                results.add(result(row, ImportStatus.INVALID, null, "El email no es válido"));
+            } else if (user.getPassword() == null || user.getPassword().isBlank()) {
+                results.add(result(row, ImportStatus.INVALID, null, "La contraseña es obligatoria"));
+            } else if (!seenEmails.add(user.getEmail())) {
+                results.add(result(row, ImportStatus.DUPLICATE, null, "El email está repetido en la importación"));
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        // 2. Descartar emails ya registrados con una sola consulta
+        Set<String> existingEmails = userRepository.findExistingEmails(
+                candidates.stream().map(row -> row.getUser().getEmail()).toList());
+        List<ImportRow> newRows = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            if (existingEmails.contains(row.getUser().getEmail())) {
+                results.add(result(row, ImportStatus.DUPLICATE, null, "El email ya está registrado"));
+            } else {
+                newRows.add(row);
+            }
+        }
+
+        // 3. Encriptar en paralelo y 4. insertar en lote
+        if (!newRows.isEmpty()) {
+            List<String> encodedPasswords = passwordEncoder.encodeAll(
+                    newRows.stream().map(row -> row.getUser().getPassword()).toList());
+            List<User> newUsers = new ArrayList<>(newRows.size());
+            for (int i = 0; i < newRows.size(); i++) {
+                newUsers.add(newUser(newRows.get(i).getUser(), encodedPasswords.get(i)));
+            }
+            results.addAll(insert(newRows, newUsers));
+        }
+
+        results.sort(Comparator.comparingLong(ImportResult::getLine));
+        return results;
+    }
+
+    /**
+     * Inserta el bloque en lote. Si el lote falla (ej: un email registrado
+     * concurrentemente) se reintenta fila a fila para aislar las filas erróneas.
+     */
+    private List<ImportResult> insert(List<ImportRow> rows, List<User> users) {
+        List<ImportResult> results = new ArrayList<>(rows.size());
+        try {
+            List<User> saved = userRepository.insertAll(users);
+            for (int i = 0; i < rows.size(); i++) {
+                results.add(result(rows.get(i), ImportStatus.CREATED, saved.get(i).getId(), null));
+            }
+            return results;
+        } catch (RuntimeException e) {
+            log.warn("Batch insert of {} users failed, retrying row by row: {}", users.size(), e.getMessage());
+        }
+
+        for (int i = 0; i < rows.size(); i++) {
+            try {
+                User saved = userRepository.insertAll(List.of(users.get(i))).get(0);
+                results.add(result(rows.get(i), ImportStatus.CREATED, saved.getId(), null));
+            } catch (RuntimeException e) {
+                results.add(result(rows.get(i), ImportStatus.FAILED, null, "No se pudo registrar el usuario"));
+            }
+        }
+        return results;
+    }
+
+    private User newUser(User user, String encodedPassword) {
+        AuthProvider provider = user.getAuthProvider() != null ? user.getAuthProvider() : AuthProvider.LOCAL;
+        LocalDateTime now = LocalDateTime.now();
+        return User.builder()
+                .email(user.getEmail())
+                .password(encodedPassword)
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .avatarSeed(UUID.randomUUID().toString())
+                .roles(user.getRoles())
+                .status(UserStatus.ACTIVE)
+                .authProvider(provider)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private ImportResult result(ImportRow row, ImportStatus status, Long userId, String message) {
+        String email = row.getUser() != null ? row.getUser().getEmail() : null;
+        return new ImportResult(row.getLine(), email, status, userId, message);
+    }
+}
@@ -1,5 +1,6 @@
 package com.yourteacher.userservice.application.service;
 
+import com.yourteacher.userservice.domain.exception.HashingCapacityExceededException;
 import com.yourteacher.userservice.domain.exception.InvalidCredentialsException;
 import com.yourteacher.userservice.domain.model.User;
 import com.yourteacher.userservice.domain.port.in.LoginUseCase;
@@ -9,13 +10,16 @@ import com.yourteacher.userservice.domain.port.out.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 /**
  * Implementación del caso de uso de Login (Application Layer)
  * Contiene la lógica de autenticación y generación de tokens JWT
+ *
+ * El login no es transaccional: la verificación BCrypt (decenas de ms de CPU)
+ * no retiene una conexión de base de datos. La lectura del usuario y la
+ * actualización del hash usan cada una su propia transacción corta.
  */
 @Service
 @RequiredArgsConstructor
@@ -27,7 +31,6 @@ public class LoginUserService implements LoginUseCase {
     private final JwtTokenProvider jwtTokenProvider;
 
     @Override
-    @Transactional(readOnly = true)
     public LoginResponse login(String email, String password) {
         log.debug("Attempting login for email: {}", email);
 
@@ -53,6 +56,9 @@ public class LoginUserService implements LoginUseCase {
             throw new InvalidCredentialsException(email);
         }
 
+        // Re-encriptar si la contraseña se creó con un coste distinto al actual
+        upgradePasswordEncoding(user, password);
+
         // Generar JWT token
         String token = jwtTokenProvider.generateToken(user);
 
@@ -67,4 +73,26 @@ public class LoginUserService implements LoginUseCase {
                 user.getLastName()
         );
     }
+
+    /**
+     * Re-encripta la contraseña con la configuración actual del encoder
+     * Solo es posible durante el login, que es cuando se dispone de la contraseña en claro.
+     * Si el pool de hashing está saturado no se impide el login: se reintentará en el siguiente.
+     */
+    private void upgradePasswordEncoding(User user, String password) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        String upgradedPassword;
+        try {
+            upgradedPassword = passwordEncoder.encode(password);
+        } catch (HashingCapacityExceededException e) {
+            log.warn("Password hash upgrade skipped for user {}: hashing pool saturated", user.getEmail());
+            return;
+        }
+        // Solo si la contraseña no cambió mientras tanto (ej: cambio de contraseña concurrente)
+        if (userRepository.replacePasswordHash(user.getId(), user.getPassword(), upgradedPassword)) {
+            log.info("Password hash upgraded for user: {}", user.getEmail());
+        }
+    }
 }
@@ -1,12 +1,12 @@
 package com.yourteacher.userservice.application.service;
 
+import com.yourteacher.userservice.domain.exception.ConcurrentUpdateException;
 import com.yourteacher.userservice.domain.exception.LanguageAlreadyAddedException;
 import com.yourteacher.userservice.domain.exception.LanguageNotAddedToUserException;
 import com.yourteacher.userservice.domain.exception.LanguageNotFoundException;
 import com.yourteacher.userservice.domain.exception.NativeLanguageCannotBeRemovedException;
 import com.yourteacher.userservice.domain.exception.UserNotFoundException;
 import com.yourteacher.userservice.domain.model.Language;
-import com.yourteacher.userservice.domain.model.User;
 import com.yourteacher.userservice.domain.model.UserLanguage;
 import com.yourteacher.userservice.domain.port.in.ManageUserLanguagesUseCase;
 import com.yourteacher.userservice.domain.port.out.LanguageRepository;
@@ -16,8 +16,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementación del servicio de gestión de idiomas de usuarios (Application Layer)
@@ -30,6 +35,11 @@ import java.util.Optional;
  * - No se puede eliminar el idioma nativo (debe cambiarlo primero)
  * - No se puede agregar un idioma que ya tiene
  * - Para setNativeLanguage, el idioma debe estar ya agregado al usuario
+ *
+ * Las escrituras no comprueban las reglas antes de ejecutarse: se aplican con
+ * una sola sentencia y las restricciones de la base de datos (clave foránea,
+ * unicidad, un solo idioma nativo) o el número de filas afectadas indican si
+ * alguna regla no se cumple. Solo entonces se consulta el motivo.
  */
 @Service
 @RequiredArgsConstructor
@@ -52,75 +62,46 @@ public class ManageUserLanguagesService implements ManageUserLanguagesUseCase {
      */
     @Override
     public UserLanguage addLanguageToUser(Long userId, Long languageId) {
-        // 1. Validar que el usuario existe
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
-
-        // 2. Validar que el idioma existe en el catálogo
-        Language language = languageRepository.findById(languageId)
-                .orElseThrow(() -> new LanguageNotFoundException(languageId));
-
-        // 3. Validar que el usuario no tenga ya ese idioma
-        if (userLanguageRepository.existsByUserIdAndLanguageId(userId, languageId)) {
-            throw new LanguageAlreadyAddedException(userId, languageId);
+        // 1. Validar que el idioma existe en el catálogo (en memoria, sin consulta)
+        if (!languageRepository.existsById(languageId)) {
+            throw new LanguageNotFoundException(languageId);
         }
 
-        // 4. Crear y guardar UserLanguage (como idioma de aprendizaje, no nativo)
+        // 2. Insertar como idioma de aprendizaje. La clave foránea comprueba que el
+        // usuario existe y la restricción única que no tenga ya ese idioma
         UserLanguage userLanguage = UserLanguage.create(userId, languageId, false);
-        return userLanguageRepository.save(userLanguage);
+        return userLanguageRepository.insert(userLanguage);
     }
 
     /**
      * Marca un idioma como nativo para un usuario
      *
-     * Desmarca automáticamente el idioma nativo anterior si existe.
-     * El idioma debe estar previamente agregado al usuario.
+     * Desmarca automáticamente el idioma nativo anterior si existe, en una
+     * sola sentencia UPDATE. El idioma debe estar previamente agregado al usuario.
+     * Las consultas de validación solo se ejecutan si el cambio no se aplica,
+     * para informar del motivo.
      *
      * @param userId ID del usuario
      * @param languageId ID del idioma a marcar como nativo
-     * @return UserLanguage actualizado con isNative=true
      * @throws UserNotFoundException si el usuario no existe
      * @throws LanguageNotFoundException si el idioma no existe en el catálogo
      * @throws LanguageNotAddedToUserException si el usuario no tiene ese idioma agregado
      */
     @Override
-    public UserLanguage setNativeLanguage(Long userId, Long languageId) {
-        // 1. Validar que el usuario existe
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
-
-        // 2. Validar que el idioma existe en el catálogo
-        Language language = languageRepository.findById(languageId)
-                .orElseThrow(() -> new LanguageNotFoundException(languageId));
-
-        // 3. Verificar que el usuario ya tenga ese idioma agregado
-        UserLanguage userLanguage = userLanguageRepository.findByUserIdAndLanguageId(userId, languageId)
-                .orElseThrow(() -> new LanguageNotAddedToUserException(userId, languageId));
-
-        // 4. Desmarcar el idioma nativo anterior (si existe)
-        Optional<UserLanguage> currentNative = userLanguageRepository.findNativeLanguageByUserId(userId);
-        if (currentNative.isPresent() && !currentNative.get().getLanguageId().equals(languageId)) {
-            UserLanguage oldNative = currentNative.get();
-            UserLanguage updatedOldNative = UserLanguage.builder()
-                    .id(oldNative.getId())
-                    .userId(oldNative.getUserId())
-                    .languageId(oldNative.getLanguageId())
-                    .isNative(false)
-                    .addedAt(oldNative.getAddedAt())
-                    .build();
-            userLanguageRepository.save(updatedOldNative);
-        }
-
-        // 5. Marcar el nuevo como nativo
-        UserLanguage updatedUserLanguage = UserLanguage.builder()
-                .id(userLanguage.getId())
-                .userId(userLanguage.getUserId())
-                .languageId(userLanguage.getLanguageId())
-                .isNative(true)
-                .addedAt(userLanguage.getAddedAt())
-                .build();
-
-        return userLanguageRepository.save(updatedUserLanguage);
+    @RetryOnConflict
+    public void setNativeLanguage(Long userId, Long languageId) {
+        if (userLanguageRepository.switchNativeLanguage(userId, languageId)) {
+            return;
+        }
+
+        // No se modificó nada: averiguar por qué
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+        if (!languageRepository.existsById(languageId)) {
+            throw new LanguageNotFoundException(languageId);
+        }
+        throw new LanguageNotAddedToUserException(userId, languageId);
     }
 
     /**
@@ -136,26 +117,107 @@ public class ManageUserLanguagesService implements ManageUserLanguagesUseCase {
      */
     @Override
     public void removeLanguageFromUser(Long userId, Long languageId) {
-        // 1. Validar que el usuario existe
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
+        // 1. Eliminar directamente; la sentencia nunca elimina el idioma nativo
+        if (userLanguageRepository.deleteLearningLanguage(userId, languageId)) {
+            return;
+        }
 
-        // 2. Verificar si el idioma está agregado al usuario
+        // 2. No se eliminó nada: el idioma es el nativo, no está agregado o el usuario no existe
         Optional<UserLanguage> userLanguage = userLanguageRepository
                 .findByUserIdAndLanguageId(userId, languageId);
-
-        // Si no está agregado, no hacer nada (operación idempotente)
+        if (userLanguage.isPresent() && userLanguage.get().isNative()) {
+            throw new NativeLanguageCannotBeRemovedException(userId, languageId);
+        }
         if (userLanguage.isEmpty()) {
-            return;
+            requireUser(userId);
         }
+        // Si no está agregado, no hacer nada (operación idempotente)
+    }
 
-        // 3. No permitir eliminar el idioma nativo
-        if (userLanguage.get().isNative()) {
-            throw new NativeLanguageCannotBeRemovedException(userId, languageId);
+    /**
+     * Agrega, elimina y marca como nativo varios idiomas de un usuario
+     *
+     * Todo se valida en memoria (catálogo e idiomas actuales del usuario) antes
+     * de escribir, y los cambios se aplican con una sentencia por tipo: un lote
+     * de INSERT, un UPDATE para el idioma nativo y un DELETE para los eliminados.
+     *
+     * @param userId ID del usuario
+     * @param languageIdsToAdd IDs de los idiomas a agregar como idiomas de aprendizaje
+     * @param languageIdsToRemove IDs de los idiomas a eliminar
+     * @param nativeLanguageId ID del idioma a marcar como nativo, null para no cambiarlo
+     * @return Lista con todos los idiomas del usuario tras los cambios
+     * @throws UserNotFoundException si el usuario no existe
+     * @throws LanguageNotFoundException si algún idioma no existe en el catálogo
+     * @throws LanguageNotAddedToUserException si el idioma nativo no está agregado
+     * @throws NativeLanguageCannotBeRemovedException si se intenta eliminar el idioma nativo
+     */
+    @Override
+    @RetryOnConflict
+    public List<UserLanguage> updateUserLanguages(Long userId,
+                                                  Collection<Long> languageIdsToAdd,
+                                                  Collection<Long> languageIdsToRemove,
+                                                  Long nativeLanguageId) {
+        Set<Long> toAdd = new LinkedHashSet<>(languageIdsToAdd);
+        Set<Long> toRemove = new LinkedHashSet<>(languageIdsToRemove);
+
+        // 1. Validar las listas y que todos los idiomas existen en el catálogo (en memoria)
+        for (Long languageId : toAdd) {
+            if (toRemove.contains(languageId)) {
+                throw new IllegalArgumentException(
+                        "El idioma con ID " + languageId + " no puede agregarse y eliminarse a la vez");
+            }
+        }
+        Set<Long> requested = new LinkedHashSet<>(toAdd);
+        requested.addAll(toRemove);
+        if (nativeLanguageId != null) {
+            requested.add(nativeLanguageId);
+        }
+        Map<Long, Language> catalog = languageRepository.findAllByIds(requested);
+        for (Long languageId : requested) {
+            if (!catalog.containsKey(languageId)) {
+                throw new LanguageNotFoundException(languageId);
+            }
+        }
+
+        // 2. Comparar con los idiomas actuales del usuario
+        List<UserLanguage> current = userLanguageRepository.findByUserId(userId);
+        if (current.isEmpty() && toAdd.isEmpty()) {
+            requireUser(userId);
+        }
+        Set<Long> currentIds = new HashSet<>();
+        Long currentNativeId = null;
+        for (UserLanguage userLanguage : current) {
+            currentIds.add(userLanguage.getLanguageId());
+            if (userLanguage.isNative()) {
+                currentNativeId = userLanguage.getLanguageId();
+            }
         }
+        toAdd.removeAll(currentIds);
+        toRemove.retainAll(currentIds);
 
-        // 4. Eliminar
-        userLanguageRepository.deleteByUserIdAndLanguageId(userId, languageId);
+        Long resultingNativeId = nativeLanguageId != null ? nativeLanguageId : currentNativeId;
+        if (nativeLanguageId != null && !currentIds.contains(nativeLanguageId) && !toAdd.contains(nativeLanguageId)) {
+            throw new LanguageNotAddedToUserException(userId, nativeLanguageId);
+        }
+        if (resultingNativeId != null && toRemove.contains(resultingNativeId)) {
+            throw new NativeLanguageCannotBeRemovedException(userId, resultingNativeId);
+        }
+
+        // 3. Escribir: lote de INSERT, cambio de nativo y DELETE de los eliminados
+        if (!toAdd.isEmpty()) {
+            userLanguageRepository.insertAll(toAdd.stream()
+                    .map(languageId -> UserLanguage.create(userId, languageId, false))
+                    .toList());
+        }
+        if (nativeLanguageId != null && !nativeLanguageId.equals(currentNativeId)
+                && !userLanguageRepository.switchNativeLanguage(userId, nativeLanguageId)) {
+            throw new ConcurrentUpdateException("usuario", userId);
+        }
+        if (!toRemove.isEmpty()) {
+            userLanguageRepository.deleteLearningLanguages(userId, toRemove);
+        }
+
+        return userLanguageRepository.findByUserId(userId);
     }
 
     /**
@@ -170,11 +232,11 @@ public class ManageUserLanguagesService implements ManageUserLanguagesUseCase {
     @Override
     @Transactional(readOnly = true)
     public List<UserLanguage> getUserLanguages(Long userId) {
-        // Validar que el usuario existe
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
-
-        return userLanguageRepository.findByUserId(userId);
+        List<UserLanguage> languages = userLanguageRepository.findByUserId(userId);
+        if (languages.isEmpty()) {
+            requireUser(userId);
+        }
+        return languages;
     }
 
     /**
@@ -187,12 +249,11 @@ public class ManageUserLanguagesService implements ManageUserLanguagesUseCase {
     @Override
     @Transactional(readOnly = true)
     public UserLanguage getNativeLanguage(Long userId) {
-        // Validar que el usuario existe
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
-
-        return userLanguageRepository.findNativeLanguageByUserId(userId)
-                .orElse(null);
+        Optional<UserLanguage> nativeLanguage = userLanguageRepository.findNativeLanguageByUserId(userId);
+        if (nativeLanguage.isEmpty()) {
+            requireUser(userId);
+        }
+        return nativeLanguage.orElse(null);
     }
 
     /**
@@ -207,10 +268,20 @@ public class ManageUserLanguagesService implements ManageUserLanguagesUseCase {
     @Override
     @Transactional(readOnly = true)
     public List<UserLanguage> getLearningLanguages(Long userId) {
-        // Validar que el usuario existe
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
+        List<UserLanguage> languages = userLanguageRepository.findLearningLanguagesByUserId(userId);
+        if (languages.isEmpty()) {
+            requireUser(userId);
+        }
+        return languages;
+    }
 
-        return userLanguageRepository.findLearningLanguagesByUserId(userId);
+    /**
+     * Comprueba que el usuario existe sin cargarlo. Solo hace falta cuando una
+     * consulta no devuelve filas: si devuelve alguna, el usuario existe.
+     */
+    private void requireUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
     }
 }
@@ -1,10 +1,13 @@
 package com.yourteacher.userservice.application.service;
 
+import com.yourteacher.userservice.domain.exception.ConcurrentUpdateException;
+import com.yourteacher.userservice.domain.model.AuthProvider;
 import com.yourteacher.userservice.domain.model.Role;
 import com.yourteacher.userservice.domain.model.User;
 import com.yourteacher.userservice.domain.model.UserStatus;
 import com.yourteacher.userservice.domain.port.in.OAuthLoginUseCase;
 import com.yourteacher.userservice.domain.port.out.JwtTokenProvider;
+import com.yourteacher.userservice.domain.port.out.PrincipalCache;
 import com.yourteacher.userservice.domain.port.out.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,9 +30,11 @@ public class OAuthLoginService implements OAuthLoginUseCase {
 
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PrincipalCache principalCache;
 
     @Override
     @Transactional
+    @RetryOnConflict
     public OAuthLoginResponse loginWithOAuth(OAuthLoginRequest request) {
         log.info("OAuth login attempt for email: {} via provider: {}", request.getEmail(), request.getProvider());
 
@@ -47,26 +52,22 @@ public class OAuthLoginService implements OAuthLoginUseCase {
             log.info("Existing user found: {}", user.getEmail());
 
             // Actualizar nombre si cambió en el proveedor OAuth
-            boolean updated = false;
             if (!user.getFirstName().equals(request.getFirstName()) ||
                 !user.getLastName().equals(request.getLastName())) {
 
-                // Reconstruir usuario con información actualizada
-                user = User.builder()
-                        .id(user.getId())
-                        .email(user.getEmail())
-                        .password(user.getPassword())
+                // Solo se escriben las columnas del nombre, y solo si nadie modificó el usuario desde que se leyó
+                LocalDateTime now = LocalDateTime.now();
+                if (!userRepository.updateNames(user.getId(), request.getFirstName(), request.getLastName(),
+                        now, user.getVersion())) {
+                    throw new ConcurrentUpdateException("usuario", user.getId());
+                }
+                user = user.toBuilder()
                         .firstName(request.getFirstName())
                         .lastName(request.getLastName())
-                        .avatarSeed(user.getAvatarSeed())
-                        .roles(user.getRoles())
-                        .status(user.getStatus())
-                        .createdAt(user.getCreatedAt())
-                        .updatedAt(LocalDateTime.now())
+                        .updatedAt(now)
+                        .version(user.getVersion() + 1)
                         .build();
-
-                user = userRepository.save(user);
-                updated = true;
+                principalCache.evict(user.getId());
                 log.info("Updated user information from OAuth provider");
             }
         } else {
@@ -81,6 +82,7 @@ public class OAuthLoginService implements OAuthLoginUseCase {
                     .password(UUID.randomUUID().toString())
                     .roles(Set.of(Role.STUDENT))
                     .status(UserStatus.ACTIVE)
+                    .authProvider(toAuthProvider(request.getProvider()))
                     .avatarSeed(UUID.randomUUID().toString())
                     .createdAt(LocalDateTime.now())
                     .build();
@@ -104,4 +106,18 @@ public class OAuthLoginService implements OAuthLoginUseCase {
                 .isNewUser(isNewUser)
                 .build();
     }
+
+    /**
+     * Convierte el nombre del proveedor OAuth ("google", "microsoft"...) en su AuthProvider
+     */
+    private static AuthProvider toAuthProvider(String provider) {
+        if (provider != null) {
+            for (AuthProvider authProvider : AuthProvider.values()) {
+                if (authProvider != AuthProvider.LOCAL && authProvider.name().equalsIgnoreCase(provider.trim())) {
+                    return authProvider;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Proveedor OAuth no soportado: " + provider);
+    }
 }
@@ -0,0 +1,58 @@
+package com.yourteacher.userservice.application.service;
+
+import com.yourteacher.userservice.domain.exception.UserNotFoundException;
+import com.yourteacher.userservice.domain.model.UserLanguage;
+import com.yourteacher.userservice.domain.model.UserProfile;
+import com.yourteacher.userservice.domain.port.in.ReactiveUserReadUseCase;
+import com.yourteacher.userservice.domain.port.out.ReactiveUserLanguageRepository;
+import com.yourteacher.userservice.domain.port.out.ReactiveUserProfileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Implementación reactiva de las lecturas del usuario (Application Layer)
+ *
+ * Cada lectura es una sola consulta: la de idiomas comprueba también que el
+ * usuario existe, y el nativo y los de aprendizaje se filtran en memoria.
+ * Solo se activa con database.reactive.enabled=true.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "database.reactive", name = "enabled", havingValue = "true")
+public class ReactiveUserReadService implements ReactiveUserReadUseCase {
+
+    private final ReactiveUserProfileRepository userProfileRepository;
+    private final ReactiveUserLanguageRepository userLanguageRepository;
+
+    @Override
+    public Mono<UserProfile> getUserProfile(Long userId) {
+        return userProfileRepository.findProfileById(userId)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException(userId)));
+    }
+
+    @Override
+    public Mono<List<UserLanguage>> getUserLanguages(Long userId) {
+        return userLanguageRepository.findByUserId(userId)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException(userId)));
+    }
+
+    @Override
+    public Mono<UserLanguage> getNativeLanguage(Long userId) {
+        return getUserLanguages(userId)
+                .flatMap(languages -> Mono.justOrEmpty(languages.stream()
+                        .filter(UserLanguage::isNativeLanguage)
+                        .findFirst()));
+    }
+
+    @Override
+    public Mono<List<UserLanguage>> getLearningLanguages(Long userId) {
+        return getUserLanguages(userId)
+                .map(languages -> languages.stream()
+                        .filter(UserLanguage::isLearningLanguage)
+                        .toList());
+    }
+}
@@ -0,0 +1,20 @@
+package com.yourteacher.userservice.application.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un caso de uso que se reintenta, en una transacción nueva, cuando
+ * falla por un conflicto de concurrencia optimista (ConcurrentUpdateException)
+ *
+ * El caso de uso debe poder repetirse completo: vuelve a leer los datos y
+ * a validar las reglas de negocio en cada intento.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -1,17 +1,23 @@
 package com.yourteacher.userservice.application.service;
 
+import com.yourteacher.userservice.domain.exception.ConcurrentUpdateException;
 import com.yourteacher.userservice.domain.model.AuthProvider;
 import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserFilter;
+import com.yourteacher.userservice.domain.model.UserPage;
 import com.yourteacher.userservice.domain.model.UserStatus;
 import com.yourteacher.userservice.domain.port.in.UserService;
 import com.yourteacher.userservice.domain.port.out.PasswordEncoder;
+import com.yourteacher.userservice.domain.port.out.PrincipalCache;
+import com.yourteacher.userservice.domain.port.out.TokenRevocationList;
 import com.yourteacher.userservice.domain.port.out.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,8 +32,15 @@ public class UserServiceImpl implements UserService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList tokenRevocationList;
     
+    /**
+     * Sin transacción propia: el encriptado (decenas de ms de CPU) no retiene una
+     * conexión; la comprobación del email y el alta usan cada una su transacción
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User registerUser(User user) {
         // Validar que el email no exista
         if (userRepository.existsByEmail(user.getEmail())) {
@@ -79,31 +92,46 @@ public class UserServiceImpl implements UserService {
     
     @Override
     @Transactional(readOnly = true)
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public UserPage getUsers(UserFilter filter, Long cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    "El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return userRepository.findPage(filter != null ? filter : UserFilter.none(), cursor, limit);
     }
     
     @Override
+    @RetryOnConflict
     public User updateUser(Long id, User user) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
         
-        // Actualizar solo campos permitidos
-        User updatedUser = User.builder()
-                .id(existingUser.getId())
-                .email(existingUser.getEmail()) // Email no se puede cambiar
-                .password(existingUser.getPassword()) // Password se cambia por otro endpoint
+        // Actualizar solo campos permitidos (email, password, avatarSeed y authProvider no se cambian aquí)
+        LocalDateTime now = LocalDateTime.now();
+        User updatedUser = existingUser.toBuilder()
                 .firstName(user.getFirstName() != null ? user.getFirstName() : existingUser.getFirstName())
                 .lastName(user.getLastName() != null ? user.getLastName() : existingUser.getLastName())
-                .avatarSeed(existingUser.getAvatarSeed()) // AvatarSeed no se puede cambiar
                 .roles(user.getRoles() != null ? user.getRoles() : existingUser.getRoles())
-                .status(existingUser.getStatus())
-                .authProvider(existingUser.getAuthProvider()) // AuthProvider no se puede cambiar
-                .createdAt(existingUser.getCreatedAt())
-                .updatedAt(LocalDateTime.now())
+                .updatedAt(now)
+                .version(existingUser.getVersion() + 1)
                 .build();
         
-        return userRepository.save(updatedUser);
+        // La actualización comprueba la versión: si otra petición modificó el usuario, se reintenta
+        if (!userRepository.updateNames(id, updatedUser.getFirstName(), updatedUser.getLastName(),
+                now, existingUser.getVersion())) {
+            throw new ConcurrentUpdateException("usuario", id);
+        }
+        boolean rolesChanged = !Objects.equals(updatedUser.getRoles(), existingUser.getRoles());
+        if (rolesChanged) {
+            userRepository.replaceRoles(id, updatedUser.getRoles());
+        }
+        
+        principalCache.evict(id);
+        // Los tokens emitidos con los roles anteriores dejan de ser válidos
+        if (rolesChanged) {
+            tokenRevocationList.revokeOlderThan(updatedUser);
+        }
+        return updatedUser;
     }
     
     @Override
@@ -112,54 +140,31 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("Usuario no encontrado");
         }
         userRepository.deleteById(id);
+        principalCache.evict(id);
+        tokenRevocationList.revokeAll(id);
     }
     
     @Override
+    @RetryOnConflict
     public User activateUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
         
         user.activate();
-
-        User activatedUser = User.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .password(user.getPassword())
-                .firstName(user.getFirstName())
-                .lastName(user.getLastName())
-                .avatarSeed(user.getAvatarSeed())
-                .roles(user.getRoles())
-                .status(user.getStatus())
-                .authProvider(user.getAuthProvider())
-                .createdAt(user.getCreatedAt())
-                .updatedAt(LocalDateTime.now())
-                .build();
-        
-        return userRepository.save(activatedUser);
+        return updateStatus(user);
     }
     
     @Override
+    @RetryOnConflict
     public User deactivateUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
         
         user.deactivate();
-
-        User deactivatedUser = User.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .password(user.getPassword())
-                .firstName(user.getFirstName())
-                .lastName(user.getLastName())
-                .avatarSeed(user.getAvatarSeed())
-                .roles(user.getRoles())
-                .status(user.getStatus())
-                .authProvider(user.getAuthProvider())
-                .createdAt(user.getCreatedAt())
-                .updatedAt(LocalDateTime.now())
-                .build();
-        
-        return userRepository.save(deactivatedUser);
+        User savedUser = updateStatus(user);
+        principalCache.evict(id);
+        tokenRevocationList.revokeOlderThan(savedUser);
+        return savedUser;
     }
     
     @Override
@@ -175,6 +180,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @RetryOnConflict
     public User changePassword(Long id, String currentPassword, String newPassword) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
@@ -192,25 +198,21 @@ public class UserServiceImpl implements UserService {
         // Encriptar la nueva contraseña
         String encodedPassword = passwordEncoder.encode(newPassword);
 
-        // Actualizar el usuario con la nueva contraseña
-        User updatedUser = User.builder()
-                .id(existingUser.getId())
-                .email(existingUser.getEmail())
+        // Actualizar solo la contraseña
+        LocalDateTime now = LocalDateTime.now();
+        if (!userRepository.updatePassword(id, encodedPassword, now, existingUser.getVersion())) {
+            throw new ConcurrentUpdateException("usuario", id);
+        }
+        principalCache.evict(id);
+        return existingUser.toBuilder()
                 .password(encodedPassword)
-                .firstName(existingUser.getFirstName())
-                .lastName(existingUser.getLastName())
-                .avatarSeed(existingUser.getAvatarSeed())
-                .roles(existingUser.getRoles())
-                .status(existingUser.getStatus())
-                .authProvider(existingUser.getAuthProvider())
-                .createdAt(existingUser.getCreatedAt())
-                .updatedAt(LocalDateTime.now())
+                .updatedAt(now)
+                .version(existingUser.getVersion() + 1)
                 .build();
-
-        return userRepository.save(updatedUser);
     }
 
     @Override
+    @RetryOnConflict
     public User changeEmail(Long id, String newEmail) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
@@ -230,22 +232,33 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("El email no es válido");
         }
 
-        // Actualizar el usuario con el nuevo email
-        User updatedUser = User.builder()
-                .id(existingUser.getId())
+        // Actualizar solo el email
+        LocalDateTime now = LocalDateTime.now();
+        if (!userRepository.updateEmail(id, newEmail, now, existingUser.getVersion())) {
+            throw new ConcurrentUpdateException("usuario", id);
+        }
+        User savedUser = existingUser.toBuilder()
                 .email(newEmail)
-                .password(existingUser.getPassword())
-                .firstName(existingUser.getFirstName())
-                .lastName(existingUser.getLastName())
-                .avatarSeed(existingUser.getAvatarSeed())
-                .roles(existingUser.getRoles())
-                .status(existingUser.getStatus())
-                .authProvider(existingUser.getAuthProvider())
-                .createdAt(existingUser.getCreatedAt())
-                .updatedAt(LocalDateTime.now())
+                .updatedAt(now)
+                .version(existingUser.getVersion() + 1)
                 .build();
+        principalCache.evict(id);
+        tokenRevocationList.revokeOlderThan(savedUser);
+        return savedUser;
+    }
 
-        return userRepository.save(updatedUser);
+    /**
+     * Persiste solo el nuevo estado del usuario y devuelve el usuario actualizado
+     */
+    private User updateStatus(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!userRepository.updateStatus(user.getId(), user.getStatus(), now, user.getVersion())) {
+            throw new ConcurrentUpdateException("usuario", user.getId());
+        }
+        return user.toBuilder()
+                .updatedAt(now)
+                .version(user.getVersion() + 1)
+                .build();
     }
 
     /**
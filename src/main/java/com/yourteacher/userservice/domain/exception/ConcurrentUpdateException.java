@@ -0,0 +1,49 @@
+package com.yourteacher.userservice.domain.exception;
+
+/**
+ * Excepción lanzada cuando otra operación modificó los mismos datos entre la
+ * lectura y la escritura (control de concurrencia optimista)
+ * (Hexagonal Architecture - Domain Layer)
+ *
+ * Los casos de uso afectados se reintentan automáticamente; esta excepción
+ * solo llega al cliente si el conflicto persiste tras los reintentos.
+ */
+public class ConcurrentUpdateException extends DomainException {
+
+    private final String resource;
+    private final Long resourceId;
+
+    /**
+     * Constructor con el recurso en conflicto
+     *
+     * @param resource Tipo de recurso (ej: "usuario")
+     * @param resourceId ID del recurso
+     */
+    public ConcurrentUpdateException(String resource, Long resourceId) {
+        super(String.format(
+            "El %s con ID %d fue modificado por otra operación, inténtelo de nuevo",
+            resource,
+            resourceId
+        ));
+        this.resource = resource;
+        this.resourceId = resourceId;
+    }
+
+    /**
+     * Obtiene el tipo de recurso en conflicto
+     *
+     * @return Tipo de recurso
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * Obtiene el ID del recurso en conflicto
+     *
+     * @return ID del recurso
+     */
+    public Long getResourceId() {
+        return resourceId;
+    }
+}
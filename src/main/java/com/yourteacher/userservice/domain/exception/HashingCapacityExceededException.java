@@ -0,0 +1,35 @@
+package com.yourteacher.userservice.domain.exception;
+
+import java.time.Duration;
+
+/**
+ * Excepción lanzada cuando no hay capacidad para encriptar o verificar contraseñas
+ * (Hexagonal Architecture - Domain Layer)
+ *
+ * Esta excepción indica que el servicio está saturado de operaciones de hashing
+ * (ej: ráfaga de logins) y la petición se rechaza en lugar de esperar.
+ * El cliente puede reintentar pasado el tiempo indicado.
+ */
+public class HashingCapacityExceededException extends DomainException {
+
+    private final Duration retryAfter;
+
+    /**
+     * Constructor con el tiempo sugerido de reintento
+     *
+     * @param retryAfter Tiempo tras el cual el cliente puede reintentar
+     */
+    public HashingCapacityExceededException(Duration retryAfter) {
+        super("El servicio está procesando demasiadas contraseñas, inténtelo de nuevo más tarde");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Obtiene el tiempo sugerido de reintento
+     *
+     * @return Tiempo tras el cual el cliente puede reintentar
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
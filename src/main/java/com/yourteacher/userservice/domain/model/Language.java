@@ -18,6 +18,7 @@ public class Language {
 
     Long id;
     String name;
+    String nativeName;
     String code;
     String flagUrl;
     LocalDateTime createdAt;
@@ -48,6 +49,7 @@ public class Language {
 
     /**
      * Factory method para crear un nuevo idioma con validaciones
+     * Sin nombre nativo: se usa el propio nombre
      *
      * @param name Nombre del idioma (ej: "Spanish", "English")
      * @param code Código ISO 639-1 de 2 letras en minúsculas (ej: "es", "en")
@@ -56,11 +58,27 @@ public class Language {
      * @throws IllegalArgumentException si las validaciones fallan
      */
     public static Language create(String name, String code, String flagUrl) {
+        return create(name, name, code, flagUrl);
+    }
+
+    /**
+     * Factory method para crear un nuevo idioma con validaciones
+     *
+     * @param name Nombre del idioma (ej: "Spanish", "English")
+     * @param nativeName Nombre en el propio idioma (ej: "Español"); si está vacío se usa el nombre
+     * @param code Código ISO 639-1 de 2 letras en minúsculas (ej: "es", "en")
+     * @param flagUrl URL de la imagen de la bandera del idioma
+     * @return Una nueva instancia de Language
+     * @throws IllegalArgumentException si las validaciones fallan
+     */
+    public static Language create(String name, String nativeName, String code, String flagUrl) {
         // Normalizar el código a minúsculas
         String normalizedCode = code != null ? code.toLowerCase().trim() : null;
+        String trimmedName = name != null ? name.trim() : null;
 
         Language language = Language.builder()
-                .name(name != null ? name.trim() : null)
+                .name(trimmedName)
+                .nativeName(nativeName != null && !nativeName.isBlank() ? nativeName.trim() : trimmedName)
                 .code(normalizedCode)
                 .flagUrl(flagUrl)
                 .createdAt(LocalDateTime.now())
@@ -91,6 +109,7 @@ public class Language {
         return Language.builder()
                 .id(id)
                 .name(this.name)
+                .nativeName(this.nativeName)
                 .code(this.code)
                 .flagUrl(this.flagUrl)
                 .createdAt(this.createdAt)
@@ -107,6 +126,7 @@ public class Language {
         return Language.builder()
                 .id(this.id)
                 .name(this.name)
+                .nativeName(this.nativeName)
                 .code(this.code)
                 .flagUrl(newFlagUrl)
                 .createdAt(this.createdAt)
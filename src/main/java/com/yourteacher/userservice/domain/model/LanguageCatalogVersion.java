@@ -0,0 +1,22 @@
+package com.yourteacher.userservice.domain.model;
+
+import lombok.Value;
+
+/**
+ * Versión del catálogo de idiomas (Hexagonal Architecture - Domain Layer)
+ *
+ * El tag se deriva del contenido del catálogo: dos instancias del servicio con
+ * el mismo catálogo tienen el mismo tag, y cambia con cualquier alta, baja o
+ * modificación de un idioma. Sirve para validar copias en caché (ETag).
+ *
+ * No incluye fecha de modificación: el momento de carga es distinto en cada
+ * instancia, y ninguna fecha de las filas cambia al borrar un idioma.
+ */
+@Value
+public class LanguageCatalogVersion {
+
+    /**
+     * Hash del contenido del catálogo
+     */
+    String tag;
+}
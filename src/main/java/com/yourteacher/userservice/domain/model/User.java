@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Set;
 
 /**
@@ -13,7 +14,7 @@ import java.util.Set;
  * Representa un usuario del sistema con su lógica de negocio
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
@@ -29,6 +30,7 @@ public class User {
     private AuthProvider authProvider; // Proveedor de autenticación (LOCAL, GOOGLE, etc.)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version; // Versión para control de concurrencia optimista, null si no se ha persistido
     
     /**
      * Valida que el email tenga un formato básico correcto
@@ -86,4 +88,12 @@ public class User {
     public boolean canChangeCredentials() {
         return AuthProvider.LOCAL.equals(authProvider);
     }
+
+    /**
+     * Obtiene la versión del estado del usuario (updatedAt en epoch millis)
+     * Cambia con cada modificación del usuario; 0 si nunca se ha persistido
+     */
+    public long getStateVersion() {
+        return updatedAt != null ? updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
 }
@@ -0,0 +1,24 @@
+package com.yourteacher.userservice.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Criterios de filtrado para el listado de usuarios (Domain Layer)
+ * Los criterios null no filtran
+ */
+@Value
+@Builder
+public class UserFilter {
+
+    UserStatus status;
+    AuthProvider authProvider;
+    Role role;
+
+    /**
+     * Filtro que no excluye ningún usuario
+     */
+    public static UserFilter none() {
+        return UserFilter.builder().build();
+    }
+}
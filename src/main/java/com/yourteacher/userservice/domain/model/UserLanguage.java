@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
  * con los idiomas que un usuario está aprendiendo o habla nativamente.
  */
 @Value
-@Builder
+@Builder(toBuilder = true)
 public class UserLanguage {
 
     Long id;
@@ -21,6 +21,7 @@ public class UserLanguage {
     Long languageId;
     boolean isNative;
     LocalDateTime addedAt;
+    Long version; // Versión para control de concurrencia optimista, null si no se ha persistido
 
     /**
      * Verifica si este idioma es nativo del usuario
@@ -51,6 +52,7 @@ public class UserLanguage {
                 .languageId(this.languageId)
                 .isNative(true)
                 .addedAt(this.addedAt)
+                .version(this.version)
                 .build();
     }
 
@@ -67,6 +69,7 @@ public class UserLanguage {
                 .languageId(this.languageId)
                 .isNative(false)
                 .addedAt(this.addedAt)
+                .version(this.version)
                 .build();
     }
 
@@ -132,6 +135,7 @@ public class UserLanguage {
                 .languageId(this.languageId)
                 .isNative(this.isNative)
                 .addedAt(this.addedAt)
+                .version(this.version)
                 .build();
     }
 
@@ -0,0 +1,25 @@
+package com.yourteacher.userservice.domain.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Página de usuarios obtenida con paginación por cursor (keyset)
+ * Los usuarios están ordenados por ID ascendente
+ */
+@Value
+public class UserPage {
+
+    List<User> users;
+
+    /**
+     * Cursor para pedir la página siguiente (ID del último usuario de esta página)
+     * null si no hay más usuarios
+     */
+    Long nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
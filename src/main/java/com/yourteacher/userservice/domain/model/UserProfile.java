@@ -0,0 +1,43 @@
+package com.yourteacher.userservice.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Perfil completo de un usuario (Hexagonal Architecture - Domain Layer)
+ * Datos del usuario, sus idiomas y los datos de catálogo de cada idioma
+ *
+ * Lo devuelven los casos de uso de lectura del perfil y lo construyen los
+ * repositorios de perfiles (puertos de salida).
+ */
+public class UserProfile {
+
+    private final User user;
+    private final List<UserLanguage> languages;
+    private final Map<Long, Language> languageDetails;
+
+    public UserProfile(User user, List<UserLanguage> languages) {
+        this(user, languages, Map.of());
+    }
+
+    public UserProfile(User user, List<UserLanguage> languages, Map<Long, Language> languageDetails) {
+        this.user = user;
+        this.languages = languages;
+        this.languageDetails = languageDetails;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public List<UserLanguage> getLanguages() {
+        return languages;
+    }
+
+    /**
+     * Datos de catálogo de los idiomas del usuario, por ID de idioma
+     */
+    public Map<Long, Language> getLanguageDetails() {
+        return languageDetails;
+    }
+}
@@ -0,0 +1,29 @@
+package com.yourteacher.userservice.domain.port.in;
+
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserStatus;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Puerto de entrada (Input Port) para exportar usuarios
+ * Define el caso de uso de exportación completa o incremental de usuarios
+ * (Hexagonal Architecture - Primary Port)
+ *
+ * Los usuarios se entregan uno a uno a medida que se leen de la base de datos,
+ * sin cargarlos todos en memoria, para sincronizaciones con sistemas externos.
+ */
+public interface ExportUsersUseCase {
+
+    /**
+     * Exporta los usuarios que cumplen los filtros, ordenados por ID
+     *
+     * @param status Estado de los usuarios a exportar, null para todos
+     * @param updatedSince Exportar solo usuarios actualizados desde esta fecha
+     *                     (inclusive), null para todos. Permite sincronizaciones incrementales
+     * @param consumer Recibe cada usuario exportado
+     * @return Número de usuarios exportados
+     */
+    long exportUsers(UserStatus status, LocalDateTime updatedSince, Consumer<User> consumer);
+}
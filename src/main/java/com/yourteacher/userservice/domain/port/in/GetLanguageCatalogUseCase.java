@@ -1,8 +1,11 @@
 package com.yourteacher.userservice.domain.port.in;
 
 import com.yourteacher.userservice.domain.model.Language;
+import com.yourteacher.userservice.domain.model.LanguageCatalogVersion;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -17,6 +20,16 @@ import java.util.Optional;
  */
 public interface GetLanguageCatalogUseCase {
 
+    /**
+     * Número de resultados por defecto de la búsqueda de idiomas
+     */
+    int DEFAULT_SEARCH_LIMIT = 10;
+
+    /**
+     * Número máximo de resultados de la búsqueda de idiomas
+     */
+    int MAX_SEARCH_LIMIT = 50;
+
     /**
      * Obtiene el catálogo completo de idiomas disponibles
      *
@@ -38,6 +51,18 @@ public interface GetLanguageCatalogUseCase {
      */
     Optional<Language> getLanguageById(Long id);
 
+    /**
+     * Busca varios idiomas por sus IDs en una sola consulta
+     *
+     * Útil para resolver los idiomas de un usuario sin una consulta por idioma.
+     * Los IDs que no existen en el catálogo se omiten del resultado y los
+     * repetidos aparecen una vez.
+     *
+     * @param ids IDs de los idiomas a buscar
+     * @return Mapa de ID a idioma con los idiomas encontrados, en el orden de los IDs pedidos
+     */
+    Map<Long, Language> getLanguagesByIds(Collection<Long> ids);
+
     /**
      * Busca un idioma específico por su código ISO 639-1
      *
@@ -80,21 +105,27 @@ public interface GetLanguageCatalogUseCase {
     List<Language> getStartingLanguages();
 
     /**
-     * Busca idiomas cuyo nombre contenga el texto especificado
+     * Busca idiomas por nombre, nombre nativo o código ISO
      *
-     * La búsqueda es case-insensitive y busca coincidencias parciales.
-     * Útil para funcionalidades de autocompletado o búsqueda.
+     * La búsqueda ignora mayúsculas y tildes, y admite prefijos, coincidencias
+     * parciales y pequeños errores de tecleo. Pensada para autocompletado:
+     * los resultados se ordenan por relevancia (código exacto, nombre que
+     * empieza por el texto, nombre que lo contiene, nombre parecido).
      *
      * Ejemplos:
-     * - "spa" -> Spanish
-     * - "eng" -> English
+     * - "es" -> Spanish, ...
+     * - "espanol" -> Spanish
+     * - "deutsch" -> German
      * - "man" -> German, Romanian
+     * - "portugese" -> Portuguese
      *
-     * @param searchTerm Texto a buscar en el nombre del idioma
-     * @return Lista de idiomas que coinciden con la búsqueda
+     * @param searchTerm Texto a buscar
+     * @param limit Número máximo de resultados (entre 1 y MAX_SEARCH_LIMIT)
+     * @return Lista de idiomas que coinciden con la búsqueda, del más al menos relevante
      *         Lista vacía si no hay coincidencias
+     * @throws IllegalArgumentException si el límite está fuera de rango
      */
-    List<Language> searchLanguagesByName(String searchTerm);
+    List<Language> searchLanguagesByName(String searchTerm, int limit);
 
     /**
      * Verifica si un idioma existe en el catálogo
@@ -115,4 +146,14 @@ public interface GetLanguageCatalogUseCase {
      * @return true si el código existe, false en caso contrario
      */
     boolean languageCodeExists(String code);
+
+    /**
+     * Obtiene la versión actual del catálogo de idiomas
+     *
+     * Permite a los clientes validar su copia del catálogo (ETag)
+     * sin volver a descargarlo si no ha cambiado.
+     *
+     * @return Versión del catálogo
+     */
+    LanguageCatalogVersion getCatalogVersion();
 }
@@ -1,9 +1,6 @@
 package com.yourteacher.userservice.domain.port.in;
 
-import com.yourteacher.userservice.domain.model.User;
-import com.yourteacher.userservice.domain.model.UserLanguage;
-
-import java.util.List;
+import com.yourteacher.userservice.domain.model.UserProfile;
 
 /**
  * Puerto de entrada (Input Port) para obtener el perfil completo de un usuario
@@ -24,29 +21,8 @@ public interface GetUserProfileUseCase {
      * - El usuario debe existir en el sistema
      *
      * @param userId ID del usuario
-     * @return UserProfile con datos del usuario y sus idiomas
+     * @return UserProfile con datos del usuario, sus idiomas y el detalle de cada idioma
      * @throws com.yourteacher.userservice.domain.exception.UserNotFoundException si el usuario no existe
      */
     UserProfile getUserProfile(Long userId);
-
-    /**
-     * Clase interna para la respuesta del perfil de usuario
-     */
-    class UserProfile {
-        private final User user;
-        private final List<UserLanguage> languages;
-
-        public UserProfile(User user, List<UserLanguage> languages) {
-            this.user = user;
-            this.languages = languages;
-        }
-
-        public User getUser() {
-            return user;
-        }
-
-        public List<UserLanguage> getLanguages() {
-            return languages;
-        }
-    }
 }
@@ -0,0 +1,71 @@
+package com.yourteacher.userservice.domain.port.in;
+
+import com.yourteacher.userservice.domain.model.User;
+import lombok.Value;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Caso de uso para importar usuarios de forma masiva (herramientas de back-office)
+ * Domain Layer - Input Port
+ */
+public interface ImportUsersUseCase {
+
+    /**
+     * Registra los usuarios leídos de un fichero de importación
+     * Las filas se procesan por bloques y los resultados de cada bloque se
+     * entregan en cuanto el bloque termina, ordenados por número de línea.
+     *
+     * @param rows Filas a importar, leídas bajo demanda
+     * @param resultConsumer Recibe los resultados de cada bloque procesado
+     * @return Resumen de la importación
+     */
+    ImportSummary importUsers(Stream<ImportRow> rows, Consumer<List<ImportResult>> resultConsumer);
+
+    enum ImportStatus {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+
+    /**
+     * Fila del fichero de importación: un usuario a registrar (con la
+     * contraseña en texto plano) o el error que impidió leerlo, junto con
+     * el email si se pudo leer
+     */
+    @Value
+    class ImportRow {
+        long line;
+        User user;
+        String error;
+
+        public static ImportRow of(long line, User user) {
+            return new ImportRow(line, user, null);
+        }
+
+        public static ImportRow invalid(long line, String email, String error) {
+            return new ImportRow(line, User.builder().email(email).build(), error);
+        }
+    }
+
+    @Value
+    class ImportResult {
+        long line;
+        String email;
+        ImportStatus status;
+        Long userId;
+        String message;
+    }
+
+    @Value
+    class ImportSummary {
+        long total;
+        long created;
+        long duplicates;
+        long invalid;
+        long failed;
+    }
+}
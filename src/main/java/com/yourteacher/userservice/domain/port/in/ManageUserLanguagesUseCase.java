@@ -1,11 +1,13 @@
 package com.yourteacher.userservice.domain.port.in;
 
 import com.yourteacher.userservice.domain.exception.LanguageAlreadyAddedException;
+import com.yourteacher.userservice.domain.exception.LanguageNotAddedToUserException;
 import com.yourteacher.userservice.domain.exception.LanguageNotFoundException;
-import com.yourteacher.userservice.domain.exception.MultipleNativeLanguagesException;
+import com.yourteacher.userservice.domain.exception.NativeLanguageCannotBeRemovedException;
 import com.yourteacher.userservice.domain.exception.UserNotFoundException;
 import com.yourteacher.userservice.domain.model.UserLanguage;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,6 +19,7 @@ import java.util.List;
  * - Agregar idiomas a usuarios
  * - Marcar idiomas como nativos
  * - Remover idiomas de usuarios
+ * - Agregar, remover y marcar como nativos varios idiomas a la vez
  * - Consultar idiomas de un usuario
  */
 public interface ManageUserLanguagesUseCase {
@@ -46,22 +49,21 @@ public interface ManageUserLanguagesUseCase {
      *
      * El idioma debe estar previamente agregado al usuario.
      * Un usuario solo puede tener UN idioma nativo.
-     * Si el usuario ya tiene otro idioma marcado como nativo, se lanzará una excepción.
      *
      * Precondiciones:
      * - El usuario debe existir en el sistema
      * - El idioma debe existir en el catálogo
      * - El usuario debe tener el idioma agregado
-     * - El usuario NO debe tener ya otro idioma marcado como nativo
+     *
+     * El idioma nativo anterior, si existe, deja de serlo en la misma operación.
      *
      * @param userId ID del usuario
      * @param languageId ID del idioma a marcar como nativo
-     * @return UserLanguage actualizado con isNative=true
      * @throws UserNotFoundException si el usuario no existe
-     * @throws LanguageNotFoundException si el usuario no tiene ese idioma agregado
-     * @throws MultipleNativeLanguagesException si el usuario ya tiene otro idioma nativo
+     * @throws LanguageNotFoundException si el idioma no existe en el catálogo
+     * @throws LanguageNotAddedToUserException si el usuario no tiene ese idioma agregado
      */
-    UserLanguage setNativeLanguage(Long userId, Long languageId);
+    void setNativeLanguage(Long userId, Long languageId);
 
     /**
      * Remueve un idioma de la lista de idiomas de un usuario
@@ -78,6 +80,37 @@ public interface ManageUserLanguagesUseCase {
      */
     void removeLanguageFromUser(Long userId, Long languageId);
 
+    /**
+     * Agrega, elimina y marca como nativo varios idiomas de un usuario en una
+     * sola operación (ej: el onboarding, que configura varios idiomas a la vez)
+     *
+     * Todos los cambios se aplican en una transacción: si alguno no es válido
+     * no se aplica ninguno. Los idiomas a agregar que el usuario ya tiene y los
+     * idiomas a eliminar que no tiene se ignoran.
+     *
+     * Precondiciones:
+     * - El usuario debe existir en el sistema
+     * - Todos los idiomas deben existir en el catálogo
+     * - Un idioma no puede estar a la vez en las listas de agregar y eliminar
+     * - El idioma nativo debe estar agregado o en la lista de agregar
+     * - No se puede eliminar el idioma nativo que queda tras el cambio
+     *
+     * @param userId ID del usuario
+     * @param languageIdsToAdd IDs de los idiomas a agregar como idiomas de aprendizaje
+     * @param languageIdsToRemove IDs de los idiomas a eliminar
+     * @param nativeLanguageId ID del idioma a marcar como nativo, null para no cambiarlo
+     * @return Lista con todos los idiomas del usuario tras los cambios
+     * @throws UserNotFoundException si el usuario no existe
+     * @throws LanguageNotFoundException si algún idioma no existe en el catálogo
+     * @throws LanguageNotAddedToUserException si el idioma nativo no está agregado
+     * @throws NativeLanguageCannotBeRemovedException si se intenta eliminar el idioma nativo
+     * @throws IllegalArgumentException si un idioma está en las listas de agregar y eliminar
+     */
+    List<UserLanguage> updateUserLanguages(Long userId,
+                                           Collection<Long> languageIdsToAdd,
+                                           Collection<Long> languageIdsToRemove,
+                                           Long nativeLanguageId);
+
     /**
      * Obtiene todos los idiomas asociados a un usuario
      *
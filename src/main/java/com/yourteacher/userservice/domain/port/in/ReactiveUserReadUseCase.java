@@ -0,0 +1,52 @@
+package com.yourteacher.userservice.domain.port.in;
+
+import com.yourteacher.userservice.domain.model.UserLanguage;
+import com.yourteacher.userservice.domain.model.UserProfile;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada (Input Port) reactivo para las lecturas del usuario
+ * Mismas lecturas que GetUserProfileUseCase y ManageUserLanguagesUseCase, sin
+ * bloquear hilos mientras se espera a la base de datos
+ * (Hexagonal Architecture - Primary Port)
+ *
+ * Los errores se emiten en el Mono, no se lanzan.
+ */
+public interface ReactiveUserReadUseCase {
+
+    /**
+     * Obtiene el perfil completo de un usuario por su ID
+     *
+     * @param userId ID del usuario
+     * @return Mono con el perfil (usuario, idiomas y detalle de cada idioma)
+     *         o error UserNotFoundException si el usuario no existe
+     */
+    Mono<UserProfile> getUserProfile(Long userId);
+
+    /**
+     * Obtiene todos los idiomas del usuario (nativos y de aprendizaje)
+     *
+     * @param userId ID del usuario
+     * @return Mono con los idiomas del usuario o error UserNotFoundException
+     */
+    Mono<List<UserLanguage>> getUserLanguages(Long userId);
+
+    /**
+     * Obtiene el idioma nativo del usuario
+     *
+     * @param userId ID del usuario
+     * @return Mono con el idioma nativo, Mono vacío si no tiene,
+     *         o error UserNotFoundException si el usuario no existe
+     */
+    Mono<UserLanguage> getNativeLanguage(Long userId);
+
+    /**
+     * Obtiene solo los idiomas que el usuario está aprendiendo (isNative=false)
+     *
+     * @param userId ID del usuario
+     * @return Mono con los idiomas de aprendizaje o error UserNotFoundException
+     */
+    Mono<List<UserLanguage>> getLearningLanguages(Long userId);
+}
@@ -1,8 +1,9 @@
 package com.yourteacher.userservice.domain.port.in;
 
 import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserFilter;
+import com.yourteacher.userservice.domain.model.UserPage;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,6 +12,16 @@ import java.util.Optional;
  * Hexagonal Architecture - Primary Port
  */
 public interface UserService {
+
+    /**
+     * Tamaño de página por defecto del listado de usuarios
+     */
+    int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Tamaño de página máximo del listado de usuarios
+     */
+    int MAX_PAGE_SIZE = 200;
     
     /**
      * Registra un nuevo usuario en el sistema
@@ -28,9 +39,13 @@ public interface UserService {
     Optional<User> getUserByEmail(String email);
     
     /**
-     * Obtiene todos los usuarios del sistema
+     * Obtiene una página de usuarios filtrados, ordenados por ID
+     *
+     * @param filter Criterios de filtrado (estado, proveedor, rol)
+     * @param cursor ID del último usuario de la página anterior, null para la primera página
+     * @param limit Tamaño de página (entre 1 y MAX_PAGE_SIZE)
      */
-    List<User> getAllUsers();
+    UserPage getUsers(UserFilter filter, Long cursor, int limit);
     
     /**
      * Actualiza la información de un usuario
@@ -1,6 +1,14 @@
 package com.yourteacher.userservice.domain.port.out;
 
+import com.yourteacher.userservice.domain.model.Role;
 import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Puerto de salida para generación y validación de JWT tokens
@@ -35,4 +43,37 @@ public interface JwtTokenProvider {
      * @return ID del usuario
      */
     Long getUserIdFromToken(String token);
+
+    /**
+     * Valida un JWT token y extrae todos sus claims en una sola verificación
+     *
+     * Preferible a llamar validateToken + getEmailFromToken + getUserIdFromToken,
+     * que verifican la firma y decodifican el token una vez cada uno.
+     *
+     * @param token Token JWT a validar
+     * @return Optional con los claims verificados, Optional.empty() si el token no es válido
+     */
+    Optional<TokenClaims> parseToken(String token);
+
+    /**
+     * Claims verificados de un JWT token
+     */
+    @Value
+    @Builder
+    class TokenClaims {
+        String subject;       // Email del usuario
+        Long userId;
+        Set<Role> roles;      // Vacío si el token no incluye roles
+        UserStatus status;    // null si el token no incluye el estado
+        Long stateVersion;    // Versión del estado del usuario al emitir el token, null si no la incluye
+        Instant expiresAt;
+
+        /**
+         * Verifica si el token lleva los claims necesarios para autenticar
+         * sin consultar la base de datos (roles, estado y versión)
+         */
+        public boolean isSelfContained() {
+            return userId != null && status != null && stateVersion != null;
+        }
+    }
 }
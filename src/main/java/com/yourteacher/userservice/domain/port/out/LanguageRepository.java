@@ -1,8 +1,11 @@
 package com.yourteacher.userservice.domain.port.out;
 
 import com.yourteacher.userservice.domain.model.Language;
+import com.yourteacher.userservice.domain.model.LanguageCatalogVersion;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,6 +40,15 @@ public interface LanguageRepository {
      */
     Optional<Language> findById(Long id);
 
+    /**
+     * Busca varios idiomas por sus IDs en una sola operación
+     * Los IDs que no existen se omiten del resultado y los repetidos aparecen una vez
+     *
+     * @param ids IDs de los idiomas a buscar
+     * @return Mapa de ID a idioma con los idiomas encontrados, en el orden de los IDs pedidos
+     */
+    Map<Long, Language> findAllByIds(Collection<Long> ids);
+
     /**
      * Busca un idioma por su código ISO 639-1
      * La búsqueda debe ser case-insensitive
@@ -56,13 +68,15 @@ public interface LanguageRepository {
     Optional<Language> findByName(String name);
 
     /**
-     * Busca idiomas cuyo nombre contenga el término de búsqueda
-     * La búsqueda debe ser case-insensitive y buscar coincidencias parciales
+     * Busca idiomas por nombre, nombre nativo o código ISO
+     * La búsqueda ignora mayúsculas y tildes, admite prefijos, coincidencias
+     * parciales y pequeños errores de tecleo, y ordena por relevancia
      *
-     * @param searchTerm Término a buscar en el nombre del idioma
-     * @return Lista de idiomas que coinciden con la búsqueda
+     * @param searchTerm Término a buscar
+     * @param limit Número máximo de resultados
+     * @return Lista de idiomas que coinciden con la búsqueda, del más al menos relevante
      */
-    List<Language> searchByName(String searchTerm);
+    List<Language> searchByName(String searchTerm, int limit);
 
     /**
      * Obtiene los idiomas más populares recomendados para empezar
@@ -101,4 +115,12 @@ public interface LanguageRepository {
      * @return Número total de idiomas
      */
     long count();
+
+    /**
+     * Obtiene la versión actual del catálogo
+     * Cambia cada vez que cambia el contenido del catálogo
+     *
+     * @return Versión del catálogo
+     */
+    LanguageCatalogVersion getCatalogVersion();
 }
@@ -1,5 +1,7 @@
 package com.yourteacher.userservice.domain.port.out;
 
+import java.util.List;
+
 /**
  * Puerto de salida para encriptación de contraseñas
  * Abstrae la implementación de encriptación del dominio
@@ -11,8 +13,20 @@ public interface PasswordEncoder {
      */
     String encode(String rawPassword);
     
+    /**
+     * Encripta varias contraseñas en paralelo (importaciones masivas)
+     * Devuelve las contraseñas encriptadas en el mismo orden
+     */
+    List<String> encodeAll(List<String> rawPasswords);
+    
     /**
      * Verifica si una contraseña en texto plano coincide con su versión encriptada
      */
     boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * Verifica si una contraseña encriptada debe volver a encriptarse
+     * porque se creó con una configuración distinta a la actual (ej: otro coste)
+     */
+    boolean upgradeEncoding(String encodedPassword);
 }
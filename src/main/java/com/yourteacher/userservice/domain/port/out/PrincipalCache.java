@@ -0,0 +1,18 @@
+package com.yourteacher.userservice.domain.port.out;
+
+/**
+ * Puerto de salida para invalidar los principales autenticados que se
+ * mantienen en caché entre requests
+ * Abstrae la implementación de caché del dominio
+ *
+ * Los casos de uso que modifican datos usados en la autenticación
+ * (estado, email, roles) deben invalidar la entrada del usuario afectado.
+ */
+public interface PrincipalCache {
+
+    /**
+     * Invalida el principal cacheado de un usuario
+     * @param userId ID del usuario cuyo principal debe descartarse
+     */
+    void evict(Long userId);
+}
@@ -0,0 +1,23 @@
+package com.yourteacher.userservice.domain.port.out;
+
+import com.yourteacher.userservice.domain.model.UserLanguage;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Puerto de salida (Output Port) reactivo para la lectura de los idiomas de un usuario
+ * Hexagonal Architecture - Secondary Port
+ */
+public interface ReactiveUserLanguageRepository {
+
+    /**
+     * Obtiene todos los idiomas de un usuario (nativos y de aprendizaje)
+     * Comprueba la existencia del usuario en la misma consulta
+     *
+     * @param userId ID del usuario
+     * @return Mono con los idiomas del usuario (lista vacía si no tiene),
+     *         o Mono vacío si el usuario no existe
+     */
+    Mono<List<UserLanguage>> findByUserId(Long userId);
+}
@@ -0,0 +1,21 @@
+package com.yourteacher.userservice.domain.port.out;
+
+import com.yourteacher.userservice.domain.model.UserProfile;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de salida (Output Port) reactivo para la lectura del perfil de usuario
+ * Misma consulta única que UserProfileRepository, sin bloquear el hilo que la lanza
+ * Hexagonal Architecture - Secondary Port
+ */
+public interface ReactiveUserProfileRepository {
+
+    /**
+     * Obtiene el perfil completo de un usuario
+     * El usuario del perfil no incluye la contraseña
+     *
+     * @param userId ID del usuario
+     * @return Mono con el perfil, o Mono vacío si el usuario no existe
+     */
+    Mono<UserProfile> findProfileById(Long userId);
+}
@@ -0,0 +1,39 @@
+package com.yourteacher.userservice.domain.port.out;
+
+import com.yourteacher.userservice.domain.model.User;
+
+/**
+ * Puerto de salida para revocar JWT tokens ya emitidos
+ * Abstrae el almacenamiento de revocaciones del dominio
+ *
+ * Se usa en el modo de autenticación stateless, donde los roles y el estado
+ * del usuario se leen de los claims del token en lugar de la base de datos.
+ * Los tokens llevan la versión del estado del usuario (User#getStateVersion)
+ * con la que fueron emitidos.
+ */
+public interface TokenRevocationList {
+
+    /**
+     * Revoca los tokens emitidos para una versión anterior del usuario
+     * Los tokens emitidos a partir del estado dado siguen siendo válidos
+     *
+     * @param user Usuario en su estado actual (ya persistido)
+     */
+    void revokeOlderThan(User user);
+
+    /**
+     * Revoca todos los tokens de un usuario (ej: usuario eliminado)
+     *
+     * @param userId ID del usuario
+     */
+    void revokeAll(Long userId);
+
+    /**
+     * Verifica si un token ha sido revocado
+     *
+     * @param userId ID del usuario del token
+     * @param stateVersion Versión del estado del usuario con la que se emitió el token
+     * @return true si el token fue revocado, false en caso contrario
+     */
+    boolean isRevoked(Long userId, long stateVersion);
+}
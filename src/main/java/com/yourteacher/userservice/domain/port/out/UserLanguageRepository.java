@@ -1,7 +1,11 @@
 package com.yourteacher.userservice.domain.port.out;
 
+import com.yourteacher.userservice.domain.exception.ConcurrentUpdateException;
+import com.yourteacher.userservice.domain.exception.LanguageAlreadyAddedException;
+import com.yourteacher.userservice.domain.exception.UserNotFoundException;
 import com.yourteacher.userservice.domain.model.UserLanguage;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +25,28 @@ public interface UserLanguageRepository {
      */
     UserLanguage save(UserLanguage userLanguage);
 
+    /**
+     * Inserta una nueva relación usuario-idioma con una sola sentencia INSERT
+     * Las reglas de existencia y unicidad las comprueban las restricciones de la base de datos
+     *
+     * @param userLanguage Relación usuario-idioma nueva (sin ID)
+     * @return UserLanguage guardado con ID asignado
+     * @throws UserNotFoundException si el usuario no existe
+     * @throws LanguageAlreadyAddedException si el usuario ya tiene ese idioma
+     */
+    UserLanguage insert(UserLanguage userLanguage);
+
+    /**
+     * Inserta varias relaciones usuario-idioma nuevas de un mismo usuario en un lote
+     * Las relaciones que el usuario ya tiene deben excluirse antes de llamar
+     *
+     * @param userLanguages Relaciones nuevas (sin ID) de un mismo usuario
+     * @return Relaciones guardadas con ID asignado, en el mismo orden
+     * @throws UserNotFoundException si el usuario no existe
+     * @throws ConcurrentUpdateException si otra operación agregó a la vez alguno de los idiomas
+     */
+    List<UserLanguage> insertAll(List<UserLanguage> userLanguages);
+
     /**
      * Busca una relación usuario-idioma por su ID
      *
@@ -91,6 +117,37 @@ public interface UserLanguageRepository {
      */
     boolean hasNativeLanguage(Long userId);
 
+    /**
+     * Marca un idioma del usuario como nativo y desmarca el anterior en una
+     * sola operación atómica
+     *
+     * @param userId ID del usuario
+     * @param languageId ID del idioma a marcar como nativo
+     * @return false si el usuario no tiene ese idioma agregado (no se modifica nada)
+     * @throws ConcurrentUpdateException si otra operación cambió el idioma nativo a la vez
+     */
+    boolean switchNativeLanguage(Long userId, Long languageId);
+
+    /**
+     * Elimina un idioma de aprendizaje del usuario
+     * No elimina nada si el usuario no tiene el idioma o si es su idioma nativo
+     *
+     * @param userId ID del usuario
+     * @param languageId ID del idioma
+     * @return true si se eliminó la relación
+     */
+    boolean deleteLearningLanguage(Long userId, Long languageId);
+
+    /**
+     * Elimina varios idiomas de aprendizaje del usuario con una sola sentencia
+     * El idioma nativo nunca se elimina
+     *
+     * @param userId ID del usuario
+     * @param languageIds IDs de los idiomas a eliminar
+     * @return Número de relaciones eliminadas
+     */
+    int deleteLearningLanguages(Long userId, Collection<Long> languageIds);
+
     /**
      * Elimina una relación usuario-idioma por su ID
      *
@@ -0,0 +1,23 @@
+package com.yourteacher.userservice.domain.port.out;
+
+import com.yourteacher.userservice.domain.model.UserProfile;
+
+import java.util.Optional;
+
+/**
+ * Puerto de salida (Output Port) para la lectura del perfil de usuario
+ * Modelo de lectura dedicado: obtiene el usuario, sus roles, sus idiomas y
+ * los datos de catálogo de esos idiomas en una sola consulta
+ * Hexagonal Architecture - Secondary Port
+ */
+public interface UserProfileRepository {
+
+    /**
+     * Obtiene el perfil completo de un usuario
+     * El usuario del perfil no incluye la contraseña
+     *
+     * @param userId ID del usuario
+     * @return Optional con el perfil si el usuario existe, Optional.empty() si no existe
+     */
+    Optional<UserProfile> findProfileById(Long userId);
+}
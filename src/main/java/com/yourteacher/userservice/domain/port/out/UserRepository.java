@@ -1,9 +1,18 @@
 package com.yourteacher.userservice.domain.port.out;
 
+import com.yourteacher.userservice.domain.model.Role;
 import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserFilter;
+import com.yourteacher.userservice.domain.model.UserPage;
+import com.yourteacher.userservice.domain.model.UserStatus;
 
+import java.time.LocalDateTime;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Puerto de salida (Output Port) para persistencia de usuarios
@@ -28,15 +37,47 @@ public interface UserRepository {
     Optional<User> findByEmail(String email);
     
     /**
-     * Obtiene todos los usuarios
+     * Obtiene una página de usuarios filtrados con paginación por cursor (keyset)
+     * Los usuarios se ordenan por ID y la página empieza después del cursor
+     *
+     * @param filter Criterios de filtrado
+     * @param afterId ID a partir del cual buscar (exclusivo), null para empezar desde el principio
+     * @param limit Número máximo de usuarios de la página
+     */
+    UserPage findPage(UserFilter filter, Long afterId, int limit);
+    
+    /**
+     * Recorre los usuarios filtrados, ordenados por ID, sin cargarlos todos en memoria
+     * Debe invocarse dentro de una transacción y cerrarse el Stream al terminar
+     *
+     * @param status Estado de los usuarios, null para todos
+     * @param updatedSince Fecha mínima de actualización (inclusive), null para todos
      */
-    List<User> findAll();
+    Stream<User> streamUsers(UserStatus status, LocalDateTime updatedSince);
     
     /**
      * Verifica si existe un usuario con el email dado
      */
     boolean existsByEmail(String email);
     
+    /**
+     * Verifica si existe un usuario con el ID dado, sin cargarlo
+     */
+    boolean existsById(Long id);
+    
+    /**
+     * Obtiene cuáles de los emails dados ya están registrados
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+    
+    /**
+     * Inserta varios usuarios nuevos en lote, en una sola transacción
+     * Si falla alguna inserción no se guarda ninguno
+     *
+     * @return Los usuarios guardados con su ID, en el mismo orden
+     */
+    List<User> insertAll(List<User> users);
+    
     /**
      * Elimina un usuario por su ID
      */
@@ -46,4 +87,51 @@ public interface UserRepository {
      * Obtiene usuarios activos
      */
     List<User> findActiveUsers();
+    
+    /**
+     * Reemplaza la contraseña encriptada solo si sigue siendo currentEncodedPassword
+     * No modifica la fecha de actualización ni la versión (ej: re-encriptado con otro coste)
+     *
+     * @return false si la contraseña cambió mientras tanto
+     */
+    boolean replacePasswordHash(Long id, String currentEncodedPassword, String newEncodedPassword);
+    
+    /**
+     * Actualiza la contraseña encriptada y la fecha de actualización (cambio de contraseña)
+     *
+     * @param version Versión del usuario leída antes de modificarlo
+     * @return false si el usuario fue modificado o eliminado por otra operación
+     */
+    boolean updatePassword(Long id, String encodedPassword, LocalDateTime updatedAt, long version);
+    
+    /**
+     * Actualiza solo el estado y la fecha de actualización
+     * Como el resto de actualizaciones parciales, es un único UPDATE que no
+     * vuelve a leer ni reescribe las demás columnas del usuario. Se aplica solo
+     * si la versión coincide, y la incrementa.
+     *
+     * @param version Versión del usuario leída antes de modificarlo
+     * @return false si el usuario fue modificado o eliminado por otra operación
+     */
+    boolean updateStatus(Long id, UserStatus status, LocalDateTime updatedAt, long version);
+    
+    /**
+     * Actualiza solo el email y la fecha de actualización
+     *
+     * @return false si el usuario fue modificado o eliminado por otra operación
+     */
+    boolean updateEmail(Long id, String email, LocalDateTime updatedAt, long version);
+    
+    /**
+     * Actualiza solo el nombre, el apellido y la fecha de actualización
+     *
+     * @return false si el usuario fue modificado o eliminado por otra operación
+     */
+    boolean updateNames(Long id, String firstName, String lastName, LocalDateTime updatedAt, long version);
+    
+    /**
+     * Reemplaza los roles de un usuario
+     * Debe ir precedido, en la misma transacción, de una actualización que compruebe la versión
+     */
+    void replaceRoles(Long id, Set<Role> roles);
 }
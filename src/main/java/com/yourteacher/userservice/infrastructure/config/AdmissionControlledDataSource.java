@@ -0,0 +1,154 @@
+package com.yourteacher.userservice.infrastructure.config;
+
+import com.yourteacher.userservice.infrastructure.exception.DatabaseCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource con control de admisión delante del pool de conexiones
+ *
+ * Con hilos virtuales no hay un pool de hilos de Tomcat que limite la
+ * concurrencia: miles de peticiones pueden pedir conexión a la vez. Un
+ * semáforo justo con tantos permisos como conexiones tiene el pool deja pasar
+ * a los hilos en orden de llegada; como mucho max-waiting hilos esperan, cada
+ * uno durante max-wait como máximo. El resto se rechaza con
+ * DatabaseCapacityExceededException (503) en lugar de acumularse en el pool.
+ *
+ * Esperar en el semáforo no bloquea el hilo portador de un hilo virtual.
+ */
+@Slf4j
+public class AdmissionControlledDataSource extends DelegatingDataSource implements MeterBinder {
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    private final Semaphore permits;
+    private final int maxConnections;
+    private final int maxWaiting;
+    private final Duration maxWait;
+    private final Duration retryAfter;
+
+    private volatile Counter rejectedCounter;
+    private volatile Timer waitTimer;
+
+    public AdmissionControlledDataSource(
+            DataSource targetDataSource, int maxConnections, int maxWaiting, Duration maxWait, Duration retryAfter) {
+        super(targetDataSource);
+        this.permits = new Semaphore(Math.max(maxConnections, 1), true);
+        this.maxConnections = Math.max(maxConnections, 1);
+        this.maxWaiting = Math.max(maxWaiting, 0);
+        this.maxWait = maxWait;
+        this.retryAfter = retryAfter;
+        log.info("Database admission control enabled: {} connections, up to {} waiting for {} ms",
+                this.maxConnections, this.maxWaiting, maxWait.toMillis());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return admit(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return admit(() -> super.getConnection(username, password));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.rejectedCounter = Counter.builder("db.admission.rejected")
+                .description("Peticiones de conexión rechazadas por saturación de la base de datos")
+                .register(registry);
+        this.waitTimer = Timer.builder("db.admission.wait")
+                .description("Espera hasta obtener permiso para usar una conexión")
+                .register(registry);
+        Gauge.builder("db.admission.waiting", permits, Semaphore::getQueueLength)
+                .description("Hilos esperando una conexión")
+                .register(registry);
+        Gauge.builder("db.admission.active", permits, semaphore -> maxConnections - semaphore.availablePermits())
+                .description("Conexiones en uso")
+                .register(registry);
+    }
+
+    private Connection admit(ConnectionSupplier connectionSupplier) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            // tryAcquire(0, ...) respeta el orden de llegada, tryAcquire() no
+            if (!permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                if (permits.getQueueLength() >= maxWaiting) {
+                    throw reject("cola de espera llena");
+                }
+                if (!permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                    throw reject("tiempo de espera agotado");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrumpido mientras esperaba una conexión de base de datos", e);
+        }
+        Timer timer = waitTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        try {
+            return releasingOnClose(connectionSupplier.get());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private DatabaseCapacityExceededException reject(String reason) {
+        Counter counter = rejectedCounter;
+        if (counter != null) {
+            counter.increment();
+        }
+        log.warn("Database connection request rejected: {}", reason);
+        return new DatabaseCapacityExceededException(reason, retryAfter);
+    }
+
+    /**
+     * Devuelve el permiso al cerrar la conexión (una sola vez, aunque se cierre varias)
+     */
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    boolean closing = "close".equals(method.getName());
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if (closing && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+}
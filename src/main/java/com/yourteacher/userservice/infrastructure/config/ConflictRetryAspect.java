@@ -0,0 +1,80 @@
+package com.yourteacher.userservice.infrastructure.config;
+
+import com.yourteacher.userservice.domain.exception.ConcurrentUpdateException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reintenta los casos de uso anotados con @RetryOnConflict cuando fallan por
+ * un conflicto de concurrencia optimista
+ *
+ * Se ejecuta antes que el interceptor de @Transactional (orden menor), de modo
+ * que cada intento usa una transacción nueva que vuelve a leer los datos.
+ * Entre intentos espera un tiempo aleatorio creciente para que las escrituras
+ * en conflicto no vuelvan a coincidir.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@Slf4j
+public class ConflictRetryAspect {
+
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Counter retryCounter;
+
+    public ConflictRetryAspect(
+            MeterRegistry meterRegistry,
+            @Value("${concurrency.conflict-retry.max-attempts:3}") int maxAttempts,
+            @Value("${concurrency.conflict-retry.backoff:PT0.02S}") Duration backoff) {
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.backoff = backoff;
+        this.retryCounter = Counter.builder("concurrency.conflict.retries")
+                .description("Casos de uso reintentados por conflictos de concurrencia optimista")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(com.yourteacher.userservice.application.service.RetryOnConflict)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Dentro de una transacción ajena no se puede reintentar: los datos leídos seguirían siendo los mismos
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrentUpdateException | OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Concurrent update conflict in {} after {} attempts",
+                            joinPoint.getSignature().toShortString(), attempt);
+                    throw e;
+                }
+                retryCounter.increment();
+                log.debug("Concurrent update conflict in {}, retrying (attempt {})",
+                        joinPoint.getSignature().toShortString(), attempt + 1);
+                pause(attempt);
+            }
+        }
+    }
+
+    private void pause(int attempt) throws InterruptedException {
+        long maxMillis = backoff.toMillis() * attempt;
+        if (maxMillis > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxMillis / 2, maxMillis + 1));
+        }
+    }
+}
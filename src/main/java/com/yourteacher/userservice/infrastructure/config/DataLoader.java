@@ -44,6 +44,7 @@ public class DataLoader {
                 // Idiomas populares para aprender
                 LanguageEntity.builder()
                         .name("Spanish")
+                        .nativeName("Español")
                         .code("es")
                         .flagUrl("https://flagcdn.com/es.svg")
                         .createdAt(now)
@@ -51,6 +52,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("French")
+                        .nativeName("Français")
                         .code("fr")
                         .flagUrl("https://flagcdn.com/fr.svg")
                         .createdAt(now)
@@ -58,6 +60,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("German")
+                        .nativeName("Deutsch")
                         .code("de")
                         .flagUrl("https://flagcdn.com/de.svg")
                         .createdAt(now)
@@ -65,6 +68,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Italian")
+                        .nativeName("Italiano")
                         .code("it")
                         .flagUrl("https://flagcdn.com/it.svg")
                         .createdAt(now)
@@ -72,6 +76,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Portuguese")
+                        .nativeName("Português")
                         .code("pt")
                         .flagUrl("https://flagcdn.com/pt.svg")
                         .createdAt(now)
@@ -79,6 +84,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("English")
+                        .nativeName("English")
                         .code("en")
                         .flagUrl("https://flagcdn.com/us.svg")
                         .createdAt(now)
@@ -86,6 +92,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Chinese")
+                        .nativeName("中文")
                         .code("zh")
                         .flagUrl("https://flagcdn.com/cn.svg")
                         .createdAt(now)
@@ -93,6 +100,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Japanese")
+                        .nativeName("日本語")
                         .code("ja")
                         .flagUrl("https://flagcdn.com/jp.svg")
                         .createdAt(now)
@@ -100,6 +108,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Korean")
+                        .nativeName("한국어")
                         .code("ko")
                         .flagUrl("https://flagcdn.com/kr.svg")
                         .createdAt(now)
@@ -107,6 +116,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Russian")
+                        .nativeName("Русский")
                         .code("ru")
                         .flagUrl("https://flagcdn.com/ru.svg")
                         .createdAt(now)
@@ -114,6 +124,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Arabic")
+                        .nativeName("العربية")
                         .code("ar")
                         .flagUrl("https://flagcdn.com/sa.svg")
                         .createdAt(now)
@@ -121,6 +132,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Hindi")
+                        .nativeName("हिन्दी")
                         .code("hi")
                         .flagUrl("https://flagcdn.com/in.svg")
                         .createdAt(now)
@@ -128,6 +140,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Dutch")
+                        .nativeName("Nederlands")
                         .code("nl")
                         .flagUrl("https://flagcdn.com/nl.svg")
                         .createdAt(now)
@@ -135,6 +148,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Swedish")
+                        .nativeName("Svenska")
                         .code("sv")
                         .flagUrl("https://flagcdn.com/se.svg")
                         .createdAt(now)
@@ -142,6 +156,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Norwegian")
+                        .nativeName("Norsk")
                         .code("no")
                         .flagUrl("https://flagcdn.com/no.svg")
                         .createdAt(now)
@@ -149,6 +164,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Danish")
+                        .nativeName("Dansk")
                         .code("da")
                         .flagUrl("https://flagcdn.com/dk.svg")
                         .createdAt(now)
@@ -156,6 +172,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Polish")
+                        .nativeName("Polski")
                         .code("pl")
                         .flagUrl("https://flagcdn.com/pl.svg")
                         .createdAt(now)
@@ -163,6 +180,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Turkish")
+                        .nativeName("Türkçe")
                         .code("tr")
                         .flagUrl("https://flagcdn.com/tr.svg")
                         .createdAt(now)
@@ -170,6 +188,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Greek")
+                        .nativeName("Ελληνικά")
                         .code("el")
                         .flagUrl("https://flagcdn.com/gr.svg")
                         .createdAt(now)
@@ -177,6 +196,7 @@ public class DataLoader {
 
                 LanguageEntity.builder()
                         .name("Czech")
+                        .nativeName("Čeština")
                         .code("cs")
                         .flagUrl("https://flagcdn.com/cz.svg")
                         .createdAt(now)
@@ -0,0 +1,47 @@
+package com.yourteacher.userservice.infrastructure.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Activa el control de admisión de conexiones (database.admission.enabled=true)
+ * Lo usa el perfil virtual-threads, donde la concurrencia ya no la limita el pool de hilos de Tomcat.
+ *
+ * Los permisos del semáforo se igualan al tamaño máximo del pool de Hikari,
+ * de modo que las esperas se producen en la cola acotada y no dentro del pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "database.admission.enabled", havingValue = "true")
+public class DatabaseAdmissionConfig {
+
+    @Bean
+    public static BeanPostProcessor admissionControlledDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlledDataSource) {
+                    return bean;
+                }
+                return new AdmissionControlledDataSource(
+                        dataSource,
+                        environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10),
+                        environment.getProperty("database.admission.max-waiting", Integer.class, 200),
+                        environment.getProperty("database.admission.max-wait", Duration.class, Duration.ofSeconds(1)),
+                        environment.getProperty("database.admission.retry-after", Duration.class, Duration.ofSeconds(1)));
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder databaseAdmissionMetrics(DataSource dataSource) throws SQLException {
+        return dataSource.unwrap(AdmissionControlledDataSource.class);
+    }
+}
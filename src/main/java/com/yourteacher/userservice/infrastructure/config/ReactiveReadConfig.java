@@ -0,0 +1,66 @@
+package com.yourteacher.userservice.infrastructure.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * Activa la ruta de lectura reactiva (database.reactive.enabled=true)
+ *
+ * Perfil e idiomas del usuario se leen con R2DBC a través de un pool propio,
+ * junto al pool JDBC (Hikari) que siguen usando JPA y todas las escrituras.
+ *
+ * El pool R2DBC no se publica como bean ConnectionFactory: con uno en el contexto,
+ * Spring Boot dejaría de configurar el DataSource JDBC. Por lo mismo se excluye
+ * R2dbcAutoConfiguration en UserServiceApplication.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "database.reactive", name = "enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(
+            @Value("${database.reactive.url}") String url,
+            @Value("${database.reactive.username:}") String username,
+            @Value("${database.reactive.password:}") String password,
+            @Value("${database.reactive.pool.max-size:10}") int maxSize,
+            @Value("${database.reactive.pool.max-acquire-time:PT1S}") Duration maxAcquireTime) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .name("reactive-reads")
+                .initialSize(1)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+        log.info("Reactive read path enabled: up to {} R2DBC connections", maxSize);
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    public void closeConnectionPool() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
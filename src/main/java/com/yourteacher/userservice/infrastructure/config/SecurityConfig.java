@@ -1,6 +1,8 @@
 package com.yourteacher.userservice.infrastructure.config;
 
+import com.yourteacher.userservice.adapter.out.security.BcryptStrengthCalibrator;
 import com.yourteacher.userservice.infrastructure.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,7 +27,7 @@ import java.util.List;
  * - CORS configurado para permitir frontend
  * - Endpoints públicos: /auth/login, /auth/register
  * - Endpoints protegidos: /profile, /languages, etc.
- * - BCrypt para encriptación de contraseñas
+ * - BCrypt para encriptación de contraseñas (coste calibrado al arrancar)
  */
 @Configuration
 @EnableWebSecurity
@@ -35,8 +37,8 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(BcryptStrengthCalibrator strengthCalibrator) {
+        return new BCryptPasswordEncoder(strengthCalibrator.getStrength());
     }
 
     @Bean
@@ -54,6 +56,10 @@ public class SecurityConfig {
 
             // Configurar autorización de endpoints
             .authorizeHttpRequests(auth -> auth
+                // Reanudación de respuestas asíncronas (Mono de la ruta reactiva): la petición
+                // ya se autorizó al llegar, y el filtro JWT no se vuelve a ejecutar
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // Endpoints públicos (no requieren autenticación)
                 .requestMatchers(
                     "/api/v1/auth/login",
@@ -63,11 +69,21 @@ public class SecurityConfig {
                     "/api/v1/languages/{id}",
                     "/api/v1/languages/code/{code}",
                     "/api/v1/languages/starting",
+                    "/api/v1/languages/select-native",
                     "/api/v1/languages/search",
                     "/h2-console/**",
-                    "/actuator/**"
+                    "/actuator/health",
+                    "/actuator/health/**",
+                    "/actuator/info"
                 ).permitAll()
 
+                // Resto de Actuator (métricas, Prometheus): revelan tráfico, errores y estado
+                // interno, y se sirven por el mismo puerto que la API. Solo administradores
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
+                // Exportación e importación masiva de usuarios: solo administradores
+                .requestMatchers("/api/v1/users/export", "/api/v1/users/import").hasRole("ADMIN")
+
                 // Todos los demás endpoints requieren autenticación
                 .anyRequest().authenticated()
             )
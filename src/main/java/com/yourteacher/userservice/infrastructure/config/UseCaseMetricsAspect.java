@@ -0,0 +1,144 @@
+package com.yourteacher.userservice.infrastructure.config;
+
+import com.yourteacher.userservice.domain.exception.ConcurrentUpdateException;
+import com.yourteacher.userservice.domain.exception.HashingCapacityExceededException;
+import com.yourteacher.userservice.domain.exception.InvalidCredentialsException;
+import com.yourteacher.userservice.domain.exception.LanguageAlreadyAddedException;
+import com.yourteacher.userservice.domain.exception.LanguageNotAddedToUserException;
+import com.yourteacher.userservice.domain.exception.LanguageNotFoundException;
+import com.yourteacher.userservice.domain.exception.MultipleNativeLanguagesException;
+import com.yourteacher.userservice.domain.exception.NativeLanguageCannotBeRemovedException;
+import com.yourteacher.userservice.domain.exception.UserNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la duración de cada operación de los puertos de entrada (casos de uso)
+ *
+ * Registra el timer usecase.duration con las etiquetas usecase (interfaz del
+ * puerto), method y outcome, que clasifica el resultado igual que la respuesta
+ * HTTP: success, not-found, invalid-credentials, conflict, invalid, rejected o
+ * error. El recuento del timer por outcome sirve como contador de resultados.
+ *
+ * En los casos de uso reactivos (devuelven Mono) se mide hasta que el Mono se
+ * completa o falla.
+ *
+ * Se ejecuta antes que el reintento por conflicto y que @Transactional (orden
+ * menor): una operación reintentada cuenta una sola vez, con su tiempo total.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class UseCaseMetricsAspect {
+
+    private static final String PORT_PACKAGE = "com.yourteacher.userservice.domain.port.in";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    public UseCaseMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.yourteacher.userservice.domain.port.in..*.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            record(joinPoint, start, e);
+            throw e;
+        }
+        if (result instanceof Mono<?> mono) {
+            // Un caso de uso reactivo termina cuando se completa el Mono, no al devolverlo
+            return mono
+                    .doOnSuccess(value -> record(joinPoint, start, null))
+                    .doOnError(e -> record(joinPoint, start, e));
+        }
+        record(joinPoint, start, null);
+        return result;
+    }
+
+    private void record(ProceedingJoinPoint joinPoint, long start, Throwable error) {
+        String outcome = error != null ? outcome(error) : "success";
+        String exception = error != null ? error.getClass().getSimpleName() : "none";
+        timer(joinPoint, outcome, exception).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Clasifica una excepción según la respuesta que genera GlobalExceptionHandler
+     */
+    static String outcome(Throwable e) {
+        if (e instanceof UserNotFoundException
+                || e instanceof LanguageNotFoundException
+                || e instanceof LanguageNotAddedToUserException) {
+            return "not-found";
+        }
+        if (e instanceof InvalidCredentialsException) {
+            return "invalid-credentials";
+        }
+        if (e instanceof ConcurrentUpdateException
+                || e instanceof OptimisticLockingFailureException
+                || e instanceof LanguageAlreadyAddedException
+                || e instanceof NativeLanguageCannotBeRemovedException
+                || e instanceof MultipleNativeLanguagesException) {
+            return "conflict";
+        }
+        if (e instanceof HashingCapacityExceededException) {
+            return "rejected";
+        }
+        if (e instanceof IllegalArgumentException) {
+            return "invalid";
+        }
+        return "error";
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint, String outcome, String exception) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return timers.computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(outcome + '/' + exception, key -> Timer.builder("usecase.duration")
+                        .description("Duración de las operaciones de los casos de uso")
+                        .tag("usecase", useCaseName(method, joinPoint.getTarget()))
+                        .tag("method", method.getName())
+                        .tag("outcome", outcome)
+                        .tag("exception", exception)
+                        .register(meterRegistry));
+    }
+
+    /**
+     * Nombre de la interfaz del puerto que declara el método, aunque el proxy
+     * exponga el método de la clase de implementación
+     */
+    private static String useCaseName(Method method, Object target) {
+        if (method.getDeclaringClass().getPackageName().startsWith(PORT_PACKAGE)) {
+            return method.getDeclaringClass().getSimpleName();
+        }
+        for (Class<?> type : AopUtils.getTargetClass(target).getInterfaces()) {
+            if (type.getPackageName().startsWith(PORT_PACKAGE)) {
+                try {
+                    type.getMethod(method.getName(), method.getParameterTypes());
+                    return type.getSimpleName();
+                } catch (NoSuchMethodException e) {
+                    // El método pertenece a otro puerto implementado por la misma clase
+                }
+            }
+        }
+        return method.getDeclaringClass().getSimpleName();
+    }
+}
@@ -0,0 +1,35 @@
+package com.yourteacher.userservice.infrastructure.exception;
+
+import java.time.Duration;
+
+/**
+ * Excepción lanzada cuando no hay conexiones de base de datos disponibles
+ * y la cola de espera está llena o se ha superado el tiempo máximo de espera
+ *
+ * La lanza AdmissionControlledDataSource; el cliente puede reintentar pasado
+ * el tiempo indicado.
+ */
+public class DatabaseCapacityExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    /**
+     * Constructor con el motivo del rechazo y el tiempo sugerido de reintento
+     *
+     * @param reason Motivo del rechazo (para los logs)
+     * @param retryAfter Tiempo tras el cual el cliente puede reintentar
+     */
+    public DatabaseCapacityExceededException(String reason, Duration retryAfter) {
+        super("No hay conexiones de base de datos disponibles: " + reason);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Obtiene el tiempo sugerido de reintento
+     *
+     * @return Tiempo tras el cual el cliente puede reintentar
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,16 +1,23 @@
 package com.yourteacher.userservice.infrastructure.exception;
 
+import com.yourteacher.userservice.domain.exception.ConcurrentUpdateException;
+import com.yourteacher.userservice.domain.exception.HashingCapacityExceededException;
 import com.yourteacher.userservice.domain.exception.InvalidCredentialsException;
 import com.yourteacher.userservice.domain.exception.LanguageAlreadyAddedException;
+import com.yourteacher.userservice.domain.exception.LanguageNotAddedToUserException;
 import com.yourteacher.userservice.domain.exception.LanguageNotFoundException;
 import com.yourteacher.userservice.domain.exception.MultipleNativeLanguagesException;
+import com.yourteacher.userservice.domain.exception.NativeLanguageCannotBeRemovedException;
 import com.yourteacher.userservice.domain.exception.UserNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -48,6 +55,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
     
+    /**
+     * Maneja parámetros de la petición con un valor inválido (ej: enum desconocido)
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(
+            MethodArgumentTypeMismatchException ex) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Bad Request")
+                .message(String.format("Valor inválido para el parámetro '%s': %s", ex.getName(), ex.getValue()))
+                .build();
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     /**
      * Maneja IllegalArgumentException (errores de negocio)
      */
@@ -99,6 +123,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Maneja LanguageNotAddedToUserException (el usuario no tiene el idioma agregado)
+     */
+    @ExceptionHandler(LanguageNotAddedToUserException.class)
+    public ResponseEntity<ErrorResponse> handleLanguageNotAddedToUserException(
+            LanguageNotAddedToUserException ex) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Language Not Added")
+                .message(ex.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     /**
      * Maneja LanguageAlreadyAddedException (idioma duplicado)
      */
@@ -116,6 +157,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    /**
+     * Maneja NativeLanguageCannotBeRemovedException (eliminar el idioma nativo)
+     */
+    @ExceptionHandler(NativeLanguageCannotBeRemovedException.class)
+    public ResponseEntity<ErrorResponse> handleNativeLanguageCannotBeRemovedException(
+            NativeLanguageCannotBeRemovedException ex) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Native Language Cannot Be Removed")
+                .message(ex.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Maneja MultipleNativeLanguagesException (múltiples idiomas nativos)
      */
@@ -150,12 +208,74 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
 
+    /**
+     * Maneja HashingCapacityExceededException (pool de hashing de contraseñas saturado)
+     */
+    @ExceptionHandler(HashingCapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleHashingCapacityExceededException(
+            HashingCapacityExceededException ex) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message(ex.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(ex.getRetryAfter().toSeconds(), 1)))
+                .body(errorResponse);
+    }
+
+    /**
+     * Maneja conflictos de concurrencia optimista que persisten tras los reintentos
+     */
+    @ExceptionHandler({ConcurrentUpdateException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConcurrentUpdateException(RuntimeException ex) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Concurrent Update")
+                .message(ex instanceof ConcurrentUpdateException
+                        ? ex.getMessage()
+                        : "El recurso fue modificado por otra operación, inténtelo de nuevo")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Maneja DatabaseCapacityExceededException (no hay conexiones de base de datos disponibles)
+     */
+    @ExceptionHandler(DatabaseCapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDatabaseCapacityExceededException(
+            DatabaseCapacityExceededException ex) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("El servicio está saturado, inténtelo de nuevo más tarde")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(ex.getRetryAfter().toSeconds(), 1)))
+                .body(errorResponse);
+    }
+
     /**
      * Maneja excepciones genéricas
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
-        
+        // La falta de conexiones llega envuelta por Spring o Hibernate (ej: al abrir la transacción)
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof DatabaseCapacityExceededException capacityException) {
+                return handleDatabaseCapacityExceededException(capacityException);
+            }
+        }
+
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
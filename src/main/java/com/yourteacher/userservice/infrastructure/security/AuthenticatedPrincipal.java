@@ -0,0 +1,19 @@
+package com.yourteacher.userservice.infrastructure.security;
+
+import com.yourteacher.userservice.domain.model.User;
+import lombok.Value;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Principal ya resuelto para un token JWT: el usuario cargado de la base de
+ * datos y sus authorities de Spring Security.
+ * Es inmutable para poder compartirse entre requests concurrentes.
+ */
+@Value
+public class AuthenticatedPrincipal {
+
+    User user;
+    List<GrantedAuthority> authorities;
+}
@@ -0,0 +1,63 @@
+package com.yourteacher.userservice.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.port.out.TokenRevocationList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Lista de revocación de JWT tokens en memoria.
+ * Implementa el puerto TokenRevocationList del dominio
+ *
+ * Guarda, por usuario, la versión mínima de estado que debe tener un token
+ * para seguir siendo válido. Una entrada deja de ser necesaria cuando han
+ * expirado todos los tokens emitidos antes de la revocación, por lo que se
+ * descarta pasado el tiempo de expiración de los JWT.
+ *
+ * La lista es local a cada instancia del servicio: una revocación registrada
+ * en una instancia no se propaga a las demás.
+ */
+@Component
+@Slf4j
+public class InMemoryTokenRevocationList implements TokenRevocationList {
+
+    private final Cache<Long, Long> minimumVersions;
+
+    public InMemoryTokenRevocationList(@Value("${jwt.expiration}") long jwtExpiration) {
+        this.minimumVersions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(Math.max(jwtExpiration, 0)))
+                .build();
+    }
+
+    @Override
+    public void revokeOlderThan(User user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        minimumVersions.asMap().merge(user.getId(), user.getStateVersion(), Math::max);
+        log.debug("Revoked tokens of user {} older than version {}", user.getId(), user.getStateVersion());
+    }
+
+    @Override
+    public void revokeAll(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        minimumVersions.put(userId, Long.MAX_VALUE);
+        log.debug("Revoked all tokens of user {}", userId);
+    }
+
+    @Override
+    public boolean isRevoked(Long userId, long stateVersion) {
+        if (userId == null) {
+            return true;
+        }
+        Long minimumVersion = minimumVersions.getIfPresent(userId);
+        return minimumVersion != null && stateVersion < minimumVersion;
+    }
+}
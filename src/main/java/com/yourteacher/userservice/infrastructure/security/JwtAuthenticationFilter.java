@@ -1,16 +1,21 @@
 package com.yourteacher.userservice.infrastructure.security;
 
+import com.yourteacher.userservice.domain.model.Role;
 import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserStatus;
 import com.yourteacher.userservice.domain.port.out.JwtTokenProvider;
+import com.yourteacher.userservice.domain.port.out.JwtTokenProvider.TokenClaims;
+import com.yourteacher.userservice.domain.port.out.TokenRevocationList;
 import com.yourteacher.userservice.domain.port.out.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -18,6 +23,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -27,21 +34,42 @@ import java.util.stream.Collectors;
  * Responsabilidades:
  * - Extraer el token JWT del header Authorization
  * - Validar el token usando JwtTokenProvider
+ * - Resolver el usuario usando la caché de principales (JwtPrincipalCache)
  * - Establecer la autenticación en el SecurityContext de Spring Security
  *
+ * Modo stateless (jwt.stateless.enabled=true): los tokens que incluyen roles,
+ * estado y versión se autentican solo con sus claims, consultando la lista de
+ * revocación en memoria en lugar de la tabla users. Los tokens sin esos claims
+ * (emitidos antes de activar el modo) siguen el camino con base de datos.
+ *
  * Este filtro se ejecuta una vez por request antes de llegar a los controladores.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final JwtPrincipalCache principalCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final boolean statelessEnabled;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
+    public JwtAuthenticationFilter(
+            JwtTokenProvider jwtTokenProvider,
+            UserRepository userRepository,
+            JwtPrincipalCache principalCache,
+            TokenRevocationList tokenRevocationList,
+            @Value("${jwt.stateless.enabled:false}") boolean statelessEnabled) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.statelessEnabled = statelessEnabled;
+    }
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -91,43 +119,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * @param request HttpServletRequest para detalles de autenticación
      */
     private void authenticateToken(String token, HttpServletRequest request) {
-        // Validar el token
-        if (!jwtTokenProvider.validateToken(token)) {
+        // Validar el token y extraer sus claims (una sola verificación de firma)
+        Optional<TokenClaims> claims = jwtTokenProvider.parseToken(token);
+        if (claims.isEmpty()) {
             log.warn("Invalid JWT token");
             return;
         }
 
-        // Extraer email del token
-        String email = jwtTokenProvider.getEmailFromToken(token);
+        String email = claims.get().getSubject();
         if (email == null) {
             log.warn("Could not extract email from JWT token");
             return;
         }
 
-        // Obtener usuario de la base de datos
-        Optional<User> userOptional = userRepository.findByEmail(email);
-        if (userOptional.isEmpty()) {
-            log.warn("User not found for email: {}", email);
-            return;
-        }
-
-        User user = userOptional.get();
-
-        // Verificar que el usuario esté activo
-        if (!user.isActive()) {
-            log.warn("User {} is not active", email);
+        // Resolver el principal desde los claims (modo stateless) o desde la caché / base de datos
+        Optional<AuthenticatedPrincipal> principal = statelessEnabled && claims.get().isSelfContained()
+                ? principalFromClaims(claims.get())
+                : principalCache.get(claims.get().getUserId(), email).or(() -> loadPrincipal(claims.get().getUserId(), email));
+        if (principal.isEmpty()) {
             return;
         }
 
         // Crear autenticación de Spring Security
-        var authorities = user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
-                .collect(Collectors.toList());
-
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                user,           // Principal (el usuario autenticado)
-                null,           // Credentials (no necesarias en JWT)
-                authorities     // Authorities/Roles
+                principal.get().getUser(),          // Principal (el usuario autenticado)
+                null,                               // Credentials (no necesarias en JWT)
+                principal.get().getAuthorities()    // Authorities/Roles
         );
 
         // Establecer detalles adicionales de la request
@@ -138,4 +155,73 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         log.debug("User {} authenticated successfully via JWT", email);
     }
+
+    /**
+     * Construye el principal solo a partir de los claims firmados del token
+     *
+     * @param claims Claims verificados del token
+     * @return Optional con el principal, vacío si el usuario no está activo o el token fue revocado
+     */
+    private Optional<AuthenticatedPrincipal> principalFromClaims(TokenClaims claims) {
+        if (claims.getStatus() != UserStatus.ACTIVE) {
+            log.warn("User {} is not active", claims.getSubject());
+            return Optional.empty();
+        }
+
+        if (tokenRevocationList.isRevoked(claims.getUserId(), claims.getStateVersion())) {
+            log.warn("Revoked JWT token for user {}", claims.getSubject());
+            return Optional.empty();
+        }
+
+        User user = User.builder()
+                .id(claims.getUserId())
+                .email(claims.getSubject())
+                .roles(claims.getRoles())
+                .status(claims.getStatus())
+                .build();
+
+        return Optional.of(new AuthenticatedPrincipal(user, toAuthorities(claims.getRoles())));
+    }
+
+    /**
+     * Carga el usuario de la base de datos y cachea su principal si está activo
+     *
+     * @param userId ID del usuario (claim userId del token), null en tokens antiguos
+     * @param email Email del usuario (subject del token)
+     * @return Optional con el principal, vacío si el usuario no existe o no está activo
+     */
+    private Optional<AuthenticatedPrincipal> loadPrincipal(Long userId, String email) {
+        // La generación se lee antes de la consulta: si el usuario se invalida mientras tanto, no se cachea
+        long generation = userId != null ? principalCache.generation(userId) : 0;
+
+        // Obtener usuario de la base de datos
+        Optional<User> userOptional = userRepository.findByEmail(email);
+        if (userOptional.isEmpty()) {
+            log.warn("User not found for email: {}", email);
+            return Optional.empty();
+        }
+
+        User user = userOptional.get();
+
+        // Verificar que el usuario esté activo
+        if (!user.isActive()) {
+            log.warn("User {} is not active", email);
+            return Optional.empty();
+        }
+
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(user, toAuthorities(user.getRoles()));
+        if (user.getId().equals(userId)) {
+            principalCache.put(principal, generation);
+        }
+        return Optional.of(principal);
+    }
+
+    /**
+     * Convierte los roles del dominio a authorities de Spring Security
+     */
+    private List<GrantedAuthority> toAuthorities(Collection<Role> roles) {
+        return roles.stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
+                .collect(Collectors.toUnmodifiableList());
+    }
 }
@@ -0,0 +1,128 @@
+package com.yourteacher.userservice.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yourteacher.userservice.domain.port.out.PrincipalCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Caché acotada y con TTL de principales autenticados vía JWT.
+ * Implementa el puerto PrincipalCache del dominio
+ *
+ * Evita consultar la tabla users (y user_roles) en cada request autenticada.
+ * Las entradas se indexan por ID de usuario y solo se sirven si el email del
+ * token coincide con el del usuario cacheado, de modo que un cambio de email
+ * sigue invalidando los tokens emitidos con el email anterior.
+ *
+ * Cada invalidación incrementa una generación por usuario. Quien carga un
+ * principal lee la generación antes de consultar la base de datos y solo lo
+ * guarda si no ha cambiado: un principal leído antes de un commit no puede
+ * cachearse después de la invalidación posterior al commit.
+ */
+@Component
+@Slf4j
+public class JwtPrincipalCache implements PrincipalCache {
+
+    /**
+     * Número de contadores de generación; varios usuarios comparten contador,
+     * lo que solo provoca alguna lectura extra de la base de datos
+     */
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<Long, AuthenticatedPrincipal> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public JwtPrincipalCache(
+            @Value("${jwt.principal-cache.ttl:PT5M}") Duration ttl,
+            @Value("${jwt.principal-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Obtiene el principal cacheado de un usuario
+     *
+     * @param userId ID del usuario (claim userId del token)
+     * @param email Email del token (subject)
+     * @return Optional con el principal si existe y corresponde al mismo email
+     */
+    public Optional<AuthenticatedPrincipal> get(Long userId, String email) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(userId))
+                .filter(principal -> principal.getUser().getEmail().equals(email));
+    }
+
+    /**
+     * Generación actual de invalidaciones de un usuario
+     * Debe leerse antes de cargar el usuario de la base de datos (ver put)
+     */
+    public long generation(Long userId) {
+        return generations.get(stripe(userId));
+    }
+
+    /**
+     * Guarda el principal resuelto de un usuario si no se ha invalidado desde
+     * que se leyó la generación
+     *
+     * @param principal Principal cargado de la base de datos
+     * @param generation Generación leída antes de cargarlo
+     * @return true si se guardó, false si una invalidación posterior lo descartó
+     */
+    public boolean put(AuthenticatedPrincipal principal, long generation) {
+        Long userId = principal.getUser().getId();
+        // compute es atómico por clave: no puede intercalarse con invalidate(userId)
+        AuthenticatedPrincipal stored = cache.asMap().compute(userId,
+                (id, current) -> generations.get(stripe(id)) == generation ? principal : current);
+        return stored == principal;
+    }
+
+    /**
+     * Invalida el principal de un usuario.
+     *
+     * Si hay una transacción activa se invalida también tras el commit, para
+     * descartar lo que otra request haya podido cachear leyendo el estado
+     * anterior mientras la transacción seguía abierta.
+     */
+    @Override
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+        }
+
+        log.debug("Evicted cached principal for user {}", userId);
+    }
+
+    private void invalidate(Long userId) {
+        cache.asMap().compute(userId, (id, current) -> {
+            generations.incrementAndGet(stripe(id));
+            return null;
+        });
+    }
+
+    private static int stripe(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), GENERATION_STRIPES);
+    }
+}
@@ -1,5 +1,8 @@
 -- Script de inicialización de datos para H2 (desarrollo)
 -- Este archivo se ejecuta automáticamente al iniciar la aplicación en modo desarrollo
+--
+-- Los IDs se asignan explícitamente: las secuencias reservan IDs por bloques de 50
+-- y se reinician al final del script por encima de los IDs usados aquí.
 
 -- ============================================================
 -- CATÁLOGO DE IDIOMAS (Languages)
@@ -7,30 +10,30 @@
 -- Top 10 idiomas más hablados y estudiados del mundo
 -- Códigos según ISO 639-1 (2 letras en minúsculas)
 
-INSERT INTO languages (name, code, flag_url, created_at) VALUES
-('English', 'en', 'https://flagcdn.com/w320/gb.png', CURRENT_TIMESTAMP),
-('Spanish', 'es', 'https://flagcdn.com/w320/es.png', CURRENT_TIMESTAMP),
-('French', 'fr', 'https://flagcdn.com/w320/fr.png', CURRENT_TIMESTAMP),
-('German', 'de', 'https://flagcdn.com/w320/de.png', CURRENT_TIMESTAMP),
-('Portuguese', 'pt', 'https://flagcdn.com/w320/pt.png', CURRENT_TIMESTAMP),
-('Italian', 'it', 'https://flagcdn.com/w320/it.png', CURRENT_TIMESTAMP),
-('Japanese', 'ja', 'https://flagcdn.com/w320/jp.png', CURRENT_TIMESTAMP),
-('Korean', 'ko', 'https://flagcdn.com/w320/kr.png', CURRENT_TIMESTAMP),
-('Chinese', 'zh', 'https://flagcdn.com/w320/cn.png', CURRENT_TIMESTAMP),
-('Russian', 'ru', 'https://flagcdn.com/w320/ru.png', CURRENT_TIMESTAMP);
+INSERT INTO languages (id, name, native_name, code, flag_url, created_at) VALUES
+(1, 'English', 'English', 'en', 'https://flagcdn.com/w320/gb.png', CURRENT_TIMESTAMP),
+(2, 'Spanish', 'Español', 'es', 'https://flagcdn.com/w320/es.png', CURRENT_TIMESTAMP),
+(3, 'French', 'Français', 'fr', 'https://flagcdn.com/w320/fr.png', CURRENT_TIMESTAMP),
+(4, 'German', 'Deutsch', 'de', 'https://flagcdn.com/w320/de.png', CURRENT_TIMESTAMP),
+(5, 'Portuguese', 'Português', 'pt', 'https://flagcdn.com/w320/pt.png', CURRENT_TIMESTAMP),
+(6, 'Italian', 'Italiano', 'it', 'https://flagcdn.com/w320/it.png', CURRENT_TIMESTAMP),
+(7, 'Japanese', '日本語', 'ja', 'https://flagcdn.com/w320/jp.png', CURRENT_TIMESTAMP),
+(8, 'Korean', '한국어', 'ko', 'https://flagcdn.com/w320/kr.png', CURRENT_TIMESTAMP),
+(9, 'Chinese', '中文', 'zh', 'https://flagcdn.com/w320/cn.png', CURRENT_TIMESTAMP),
+(10, 'Russian', 'Русский', 'ru', 'https://flagcdn.com/w320/ru.png', CURRENT_TIMESTAMP);
 
 -- Idiomas adicionales populares
-INSERT INTO languages (name, code, flag_url, created_at) VALUES
-('Arabic', 'ar', 'https://flagcdn.com/w320/sa.png', CURRENT_TIMESTAMP),
-('Hindi', 'hi', 'https://flagcdn.com/w320/in.png', CURRENT_TIMESTAMP),
-('Dutch', 'nl', 'https://flagcdn.com/w320/nl.png', CURRENT_TIMESTAMP),
-('Polish', 'pl', 'https://flagcdn.com/w320/pl.png', CURRENT_TIMESTAMP),
-('Turkish', 'tr', 'https://flagcdn.com/w320/tr.png', CURRENT_TIMESTAMP),
-('Swedish', 'sv', 'https://flagcdn.com/w320/se.png', CURRENT_TIMESTAMP),
-('Greek', 'el', 'https://flagcdn.com/w320/gr.png', CURRENT_TIMESTAMP),
-('Czech', 'cs', 'https://flagcdn.com/w320/cz.png', CURRENT_TIMESTAMP),
-('Danish', 'da', 'https://flagcdn.com/w320/dk.png', CURRENT_TIMESTAMP),
-('Finnish', 'fi', 'https://flagcdn.com/w320/fi.png', CURRENT_TIMESTAMP);
+INSERT INTO languages (id, name, native_name, code, flag_url, created_at) VALUES
+(11, 'Arabic', 'العربية', 'ar', 'https://flagcdn.com/w320/sa.png', CURRENT_TIMESTAMP),
+(12, 'Hindi', 'हिन्दी', 'hi', 'https://flagcdn.com/w320/in.png', CURRENT_TIMESTAMP),
+(13, 'Dutch', 'Nederlands', 'nl', 'https://flagcdn.com/w320/nl.png', CURRENT_TIMESTAMP),
+(14, 'Polish', 'Polski', 'pl', 'https://flagcdn.com/w320/pl.png', CURRENT_TIMESTAMP),
+(15, 'Turkish', 'Türkçe', 'tr', 'https://flagcdn.com/w320/tr.png', CURRENT_TIMESTAMP),
+(16, 'Swedish', 'Svenska', 'sv', 'https://flagcdn.com/w320/se.png', CURRENT_TIMESTAMP),
+(17, 'Greek', 'Ελληνικά', 'el', 'https://flagcdn.com/w320/gr.png', CURRENT_TIMESTAMP),
+(18, 'Czech', 'Čeština', 'cs', 'https://flagcdn.com/w320/cz.png', CURRENT_TIMESTAMP),
+(19, 'Danish', 'Dansk', 'da', 'https://flagcdn.com/w320/dk.png', CURRENT_TIMESTAMP),
+(20, 'Finnish', 'Suomi', 'fi', 'https://flagcdn.com/w320/fi.png', CURRENT_TIMESTAMP);
 
 -- ============================================================
 -- USUARIOS DE PRUEBA (opcional - comentar en producción)
@@ -38,15 +41,15 @@ INSERT INTO languages (name, code, flag_url, created_at) VALUES
 
 -- Usuario Estudiante (password: student123)
 -- BCrypt hash generado para "student123"
-INSERT INTO users (email, password, first_name, last_name, avatar_seed, auth_provider, status, created_at, updated_at)
-VALUES ('student@quickspeak.com', '$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy', 'María', 'González', 'student-avatar-seed-123', 'LOCAL', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO users (id, email, password, first_name, last_name, avatar_seed, auth_provider, status, created_at, updated_at, version)
+VALUES (1, 'student@quickspeak.com', '$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy', 'María', 'González', 'student-avatar-seed-123', 'LOCAL', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0);
 
 INSERT INTO user_roles (user_id, role) VALUES ((SELECT id FROM users WHERE email = 'student@quickspeak.com'), 'STUDENT');
 
 -- Usuario Admin (password: admin123)
 -- BCrypt hash generado para "admin123"
-INSERT INTO users (email, password, first_name, last_name, avatar_seed, auth_provider, status, created_at, updated_at)
-VALUES ('admin@quickspeak.com', '$2a$10$A/lRwYlJ1rW6dKZvCr7WduGVNnz.eDvKvKvbC0VKOvKvBJVo8nxS2', 'Ana', 'Martínez', 'admin-avatar-seed-456', 'LOCAL', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO users (id, email, password, first_name, last_name, avatar_seed, auth_provider, status, created_at, updated_at, version)
+VALUES (2, 'admin@quickspeak.com', '$2a$10$A/lRwYlJ1rW6dKZvCr7WduGVNnz.eDvKvKvbC0VKOvKvBJVo8nxS2', 'Ana', 'Martínez', 'admin-avatar-seed-456', 'LOCAL', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0);
 
 INSERT INTO user_roles (user_id, role) VALUES ((SELECT id FROM users WHERE email = 'admin@quickspeak.com'), 'ADMIN');
 
@@ -55,12 +58,20 @@ INSERT INTO user_roles (user_id, role) VALUES ((SELECT id FROM users WHERE email
 -- ============================================================
 
 -- María (student) aprende inglés y francés, su idioma nativo es español
-INSERT INTO user_languages (user_id, language_id, is_native, added_at) VALUES
-((SELECT id FROM users WHERE email = 'student@quickspeak.com'), (SELECT id FROM languages WHERE code = 'es'), true, CURRENT_TIMESTAMP),
-((SELECT id FROM users WHERE email = 'student@quickspeak.com'), (SELECT id FROM languages WHERE code = 'en'), false, CURRENT_TIMESTAMP),
-((SELECT id FROM users WHERE email = 'student@quickspeak.com'), (SELECT id FROM languages WHERE code = 'fr'), false, CURRENT_TIMESTAMP);
+INSERT INTO user_languages (id, user_id, language_id, is_native, added_at, version) VALUES
+(1, (SELECT id FROM users WHERE email = 'student@quickspeak.com'), (SELECT id FROM languages WHERE code = 'es'), true, CURRENT_TIMESTAMP, 0),
+(2, (SELECT id FROM users WHERE email = 'student@quickspeak.com'), (SELECT id FROM languages WHERE code = 'en'), false, CURRENT_TIMESTAMP, 0),
+(3, (SELECT id FROM users WHERE email = 'student@quickspeak.com'), (SELECT id FROM languages WHERE code = 'fr'), false, CURRENT_TIMESTAMP, 0);
 
 -- Ana (admin) su idioma nativo es español, aprende inglés
-INSERT INTO user_languages (user_id, language_id, is_native, added_at) VALUES
-((SELECT id FROM users WHERE email = 'admin@quickspeak.com'), (SELECT id FROM languages WHERE code = 'es'), true, CURRENT_TIMESTAMP),
-((SELECT id FROM users WHERE email = 'admin@quickspeak.com'), (SELECT id FROM languages WHERE code = 'en'), false, CURRENT_TIMESTAMP);
+INSERT INTO user_languages (id, user_id, language_id, is_native, added_at, version) VALUES
+(4, (SELECT id FROM users WHERE email = 'admin@quickspeak.com'), (SELECT id FROM languages WHERE code = 'es'), true, CURRENT_TIMESTAMP, 0),
+(5, (SELECT id FROM users WHERE email = 'admin@quickspeak.com'), (SELECT id FROM languages WHERE code = 'en'), false, CURRENT_TIMESTAMP, 0);
+
+-- ============================================================
+-- SECUENCIAS DE IDs
+-- ============================================================
+-- Hibernate reserva el bloque (valor - 49 .. valor]: el primer bloque empieza en 51
+ALTER SEQUENCE languages_seq RESTART WITH 100;
+ALTER SEQUENCE users_seq RESTART WITH 100;
+ALTER SEQUENCE user_languages_seq RESTART WITH 100;
@@ -0,0 +1,113 @@
+package com.yourteacher.userservice.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourteacher.userservice.adapter.in.web.mapper.LanguageDtoMapper;
+import com.yourteacher.userservice.domain.model.Language;
+import com.yourteacher.userservice.domain.model.LanguageCatalogVersion;
+import com.yourteacher.userservice.domain.port.in.GetLanguageCatalogUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para LanguageController
+ * Verifica las respuestas del catálogo ya serializadas y la negociación de gzip
+ */
+@ExtendWith(MockitoExtension.class)
+class LanguageControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LanguageDtoMapper mapper = new LanguageDtoMapper();
+
+    @Mock
+    private GetLanguageCatalogUseCase getLanguageCatalog;
+
+    private LanguageController controller;
+
+    @BeforeEach
+    void setUp() {
+        LanguageCatalogResponses catalogResponses = new LanguageCatalogResponses(getLanguageCatalog, mapper, objectMapper);
+        controller = new LanguageController(getLanguageCatalog, catalogResponses, mapper, Duration.ofHours(1));
+    }
+
+    @Test
+    void shouldServePreRenderedCatalogWithGzipVariant() throws Exception {
+        // Given
+        List<Language> languages = catalog(40);
+        when(getLanguageCatalog.getCatalogVersion()).thenReturn(version("v1"));
+        when(getLanguageCatalog.getAllLanguages()).thenReturn(languages);
+        when(getLanguageCatalog.getStartingLanguages()).thenReturn(languages.subList(0, 10));
+
+        // When
+        ResponseEntity<byte[]> plain = controller.getAllLanguages(null);
+        ResponseEntity<byte[]> gzip = controller.getAllLanguages("br;q=1.0, gzip;q=0.8");
+        ResponseEntity<byte[]> again = controller.getAllLanguages(null);
+
+        // Then: mismo JSON que la serialización de los DTOs, generado una sola vez
+        assertArrayEquals(objectMapper.writeValueAsBytes(mapper.toResponseList(languages)), plain.getBody());
+        assertSame(plain.getBody(), again.getBody());
+        assertEquals("\"v1\"", plain.getHeaders().getETag());
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"v1-gzip\"", gzip.getHeaders().getETag());
+        assertArrayEquals(plain.getBody(), new GZIPInputStream(new ByteArrayInputStream(gzip.getBody())).readAllBytes());
+        assertEquals("max-age=3600, public", plain.getHeaders().getCacheControl());
+        verify(getLanguageCatalog, times(1)).getAllLanguages();
+    }
+
+    @Test
+    void shouldRenderAgainWhenCatalogVersionChanges() {
+        // Given
+        when(getLanguageCatalog.getCatalogVersion()).thenReturn(version("v1"), version("v2"));
+        when(getLanguageCatalog.getAllLanguages()).thenReturn(catalog(2), catalog(3));
+        when(getLanguageCatalog.getStartingLanguages()).thenReturn(List.of());
+
+        // When
+        ResponseEntity<byte[]> first = controller.getLanguageByCode("L2", null);
+        ResponseEntity<byte[]> second = controller.getLanguageByCode("l2", null);
+
+        // Then
+        assertEquals(404, first.getStatusCode().value());
+        assertEquals(200, second.getStatusCode().value());
+        assertEquals("\"v2\"", second.getHeaders().getETag());
+    }
+
+    @Test
+    void shouldNegotiateGzipFromAcceptEncoding() {
+        assertTrue(LanguageController.acceptsGzip("gzip, deflate, br"));
+        assertTrue(LanguageController.acceptsGzip("*"));
+        assertTrue(LanguageController.acceptsGzip("GZIP;q=0.5"));
+        assertFalse(LanguageController.acceptsGzip("gzip;q=0"));
+        assertFalse(LanguageController.acceptsGzip("identity"));
+        assertFalse(LanguageController.acceptsGzip(null));
+    }
+
+    private static LanguageCatalogVersion version(String tag) {
+        return new LanguageCatalogVersion(tag);
+    }
+
+    private static List<Language> catalog(int size) {
+        List<Language> languages = new ArrayList<>();
+        for (long id = 0; id < size; id++) {
+            languages.add(Language.builder()
+                    .id(id)
+                    .name("Language " + id)
+                    .code("l" + id)
+                    .flagUrl("https://flagcdn.com/w320/l" + id + ".png")
+                    .build());
+        }
+        return languages;
+    }
+}
@@ -0,0 +1,128 @@
+package com.yourteacher.userservice.adapter.in.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourteacher.userservice.adapter.in.web.mapper.UserDtoMapper;
+import com.yourteacher.userservice.domain.model.AuthProvider;
+import com.yourteacher.userservice.domain.model.Role;
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserStatus;
+import com.yourteacher.userservice.domain.port.in.ExportUsersUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para UserExportController
+ * Verifica el formato de las líneas exportadas en CSV y NDJSON
+ */
+@ExtendWith(MockitoExtension.class)
+class UserExportControllerTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private ExportUsersUseCase exportUsersUseCase;
+
+    private UserExportController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new UserExportController(exportUsersUseCase, new UserDtoMapper(), objectMapper);
+    }
+
+    @Test
+    void shouldWriteCsvWithHeaderQuotingAndNeutralisedFormulas() throws Exception {
+        // Given
+        exporting(
+                user(1L, "ana@example.com", "Ana María", "López, Ruiz", Set.of(Role.STUDENT, Role.ADMIN)),
+                user(2L, "eva@example.com", "=HYPERLINK(\"http://x\",\"y\")", "-Díaz", Set.of(Role.STUDENT)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        controller.exportUsers(null, null, "csv", response);
+
+        // Then
+        List<String> lines = response.getContentAsString().lines().toList();
+        assertEquals("text/csv;charset=UTF-8", response.getContentType());
+        assertEquals(List.of(
+                "id,email,firstName,lastName,avatarSeed,roles,status,authProvider,createdAt,updatedAt",
+                "1,ana@example.com,Ana María,\"López, Ruiz\",seed,ADMIN;STUDENT,ACTIVE,LOCAL,2024-01-15T10:30,2024-01-15T10:30",
+                "2,eva@example.com,\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\",'-Díaz,seed,STUDENT,ACTIVE,LOCAL,2024-01-15T10:30,2024-01-15T10:30"),
+                lines);
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        // Given
+        exporting(
+                user(1L, "ana@example.com", "Ana", "López", Set.of(Role.ADMIN)),
+                user(2L, "eva@example.com", "=1+1", "Díaz", Set.of(Role.STUDENT)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        controller.exportUsers(UserStatus.ACTIVE, null, "ndjson", response);
+
+        // Then: el JSON no se interpreta como fórmula, los valores se exportan tal cual
+        List<String> lines = response.getContentAsString().lines().toList();
+        assertEquals(2, lines.size());
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertEquals(2L, second.get("id").asLong());
+        assertEquals("=1+1", second.get("firstName").asText());
+        assertEquals("STUDENT", second.get("roles").get(0).asText());
+        assertEquals("attachment; filename=\"users.ndjson\"", response.getHeader("Content-Disposition"));
+        verify(exportUsersUseCase).exportUsers(eq(UserStatus.ACTIVE), isNull(), any());
+    }
+
+    @Test
+    void shouldRejectUnknownFormat() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> controller.exportUsers(null, null, "xlsx", new MockHttpServletResponse()));
+        verifyNoInteractions(exportUsersUseCase);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void exporting(User... users) {
+        when(exportUsersUseCase.exportUsers(any(), any(), any())).thenAnswer(invocation -> {
+            Consumer<User> consumer = invocation.getArgument(2, Consumer.class);
+            for (User user : users) {
+                consumer.accept(user);
+            }
+            return (long) users.length;
+        });
+    }
+
+    private User user(Long id, String email, String firstName, String lastName, Set<Role> roles) {
+        return User.builder()
+                .id(id)
+                .email(email)
+                .password("$2a$10$hash")
+                .firstName(firstName)
+                .lastName(lastName)
+                .avatarSeed("seed")
+                .roles(roles)
+                .status(UserStatus.ACTIVE)
+                .authProvider(AuthProvider.LOCAL)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .version(0L)
+                .build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.yourteacher.userservice.adapter.out.persistence;
+
+import com.yourteacher.userservice.adapter.out.persistence.entity.LanguageEntity;
+import com.yourteacher.userservice.adapter.out.persistence.mapper.LanguageMapper;
+import com.yourteacher.userservice.application.service.GetLanguageCatalogService;
+import com.yourteacher.userservice.domain.model.Language;
+import com.yourteacher.userservice.domain.model.LanguageCatalogVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para LanguageRepositoryAdapter
+ * Verifica que las lecturas se sirven desde la copia en memoria del catálogo
+ */
+@ExtendWith(MockitoExtension.class)
+class LanguageRepositoryAdapterTest {
+
+    @Mock
+    private JpaLanguageRepository jpaRepository;
+
+    private LanguageRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new LanguageRepositoryAdapter(jpaRepository, new LanguageMapper());
+    }
+
+    @Test
+    void shouldServeReadsFromSingleCatalogLoad() {
+        // Given
+        when(jpaRepository.findAll()).thenReturn(List.of(
+                entity(2L, "Spanish", "es"),
+                entity(1L, "English", "en"),
+                entity(3L, "Portuguese", "pt")));
+
+        // When
+        List<Language> all = adapter.findAll();
+
+        // Then
+        assertEquals(List.of("English", "Portuguese", "Spanish"), all.stream().map(Language::getName).toList());
+        assertEquals("Spanish", adapter.findById(2L).orElseThrow().getName());
+        assertEquals("English", adapter.findByCode("EN").orElseThrow().getName());
+        assertEquals("Portuguese", adapter.findByName("portuguese").orElseThrow().getName());
+        assertEquals(List.of("Portuguese"), adapter.searchByName("TUG", 10).stream().map(Language::getName).toList());
+        assertTrue(adapter.existsById(3L));
+        assertFalse(adapter.existsByCode("fr"));
+        assertEquals(3, adapter.count());
+        assertEquals(Set.of(1L, 3L), adapter.findAllByIds(List.of(1L, 3L, 99L)).keySet());
+        verify(jpaRepository, times(1)).findAll();
+    }
+
+    @Test
+    void shouldFindLanguagesByIdsInRequestOrderSkippingDuplicatesAndMissing() {
+        // Given
+        when(jpaRepository.findAll()).thenReturn(List.of(
+                entity(1L, "English", "en"),
+                entity(2L, "Spanish", "es"),
+                entity(3L, "Portuguese", "pt")));
+
+        // When
+        Map<Long, Language> found = adapter.findAllByIds(Arrays.asList(3L, 99L, 1L, 3L, null, 2L));
+
+        // Then
+        assertEquals(List.of(3L, 1L, 2L), List.copyOf(found.keySet()));
+        assertEquals(List.of("Portuguese", "English", "Spanish"), names(List.copyOf(found.values())));
+        assertTrue(adapter.findAllByIds(List.of(98L, 99L)).isEmpty());
+        assertTrue(adapter.findAllByIds(List.of()).isEmpty());
+    }
+
+    @Test
+    void shouldResolveLanguagesByIdsThroughCatalogService() {
+        // Given
+        when(jpaRepository.findAll()).thenReturn(List.of(
+                entity(1L, "English", "en"),
+                entity(2L, "Spanish", "es")));
+        GetLanguageCatalogService service = new GetLanguageCatalogService(adapter);
+
+        // When / Then
+        assertEquals(List.of(2L, 1L), List.copyOf(service.getLanguagesByIds(List.of(2L, 1L, 2L, 7L)).keySet()));
+        assertEquals(Map.of(), service.getLanguagesByIds(List.of()));
+        assertEquals(Map.of(), service.getLanguagesByIds(null));
+    }
+
+    @Test
+    void shouldNotLoadCatalogForEmptyIds() {
+        // When
+        Map<Long, Language> found = new GetLanguageCatalogService(adapter).getLanguagesByIds(Set.of());
+
+        // Then
+        assertTrue(found.isEmpty());
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    void shouldSwapCatalogAfterSave() {
+        // Given
+        LanguageEntity french = entity(4L, "French", "fr");
+        when(jpaRepository.findAll())
+                .thenReturn(List.of(entity(1L, "English", "en")))
+                .thenReturn(List.of(entity(1L, "English", "en"), french));
+        when(jpaRepository.save(any(LanguageEntity.class))).thenReturn(french);
+        assertFalse(adapter.existsByCode("fr"));
+
+        // When
+        adapter.save(Language.create("French", "fr", null));
+
+        // Then
+        assertTrue(adapter.existsByCode("fr"));
+        assertEquals(2, adapter.count());
+    }
+
+    @Test
+    void shouldSwapCatalogAfterDelete() {
+        // Given
+        when(jpaRepository.findAll())
+                .thenReturn(List.of(entity(1L, "English", "en"), entity(2L, "Spanish", "es")))
+                .thenReturn(List.of(entity(1L, "English", "en")));
+        assertTrue(adapter.existsById(2L));
+
+        // When
+        adapter.deleteById(2L);
+
+        // Then
+        assertFalse(adapter.existsById(2L));
+        verify(jpaRepository).deleteById(2L);
+    }
+
+    @Test
+    void shouldKeepCatalogVersionUntilContentChanges() {
+        // Given
+        LanguageEntity french = entity(4L, "French", "fr");
+        when(jpaRepository.findAll())
+                .thenReturn(List.of(entity(1L, "English", "en")))
+                .thenReturn(List.of(entity(1L, "English", "en")))
+                .thenReturn(List.of(entity(1L, "English", "en"), french));
+        when(jpaRepository.save(any(LanguageEntity.class))).thenReturn(french);
+        LanguageCatalogVersion initial = adapter.getCatalogVersion();
+
+        // When: recarga sin cambios y después alta de un idioma
+        adapter.reload();
+        LanguageCatalogVersion reloaded = adapter.getCatalogVersion();
+        adapter.save(Language.create("French", "fr", null));
+
+        // Then
+        assertSame(initial, reloaded);
+        assertNotEquals(initial.getTag(), adapter.getCatalogVersion().getTag());
+    }
+
+    @Test
+    void shouldRankSearchResultsIgnoringAccentsAndTypos() {
+        // Given
+        when(jpaRepository.findAll()).thenReturn(List.of(
+                entity(1L, "English", "en"),
+                entity(2L, "Spanish", "es"),
+                entity(3L, "German", "de"),
+                entity(4L, "Romanian", "ro"),
+                entity(5L, "Estonian", "et"),
+                entity(6L, "Portuguese", "pt")));
+
+        // When / Then
+        assertEquals(List.of("Spanish", "Estonian", "Portuguese"), names(adapter.searchByName("es", 10)));
+        assertEquals(List.of("Spanish"), names(adapter.searchByName("Españ", 10)));
+        assertEquals(List.of("German"), names(adapter.searchByName("deutsch", 10)));
+        assertEquals(List.of("Portuguese"), names(adapter.searchByName("portugese", 10)));
+        assertEquals(List.of("German", "Romanian"), names(adapter.searchByName("man", 10)));
+        assertEquals(List.of("Spanish"), names(adapter.searchByName("es", 1)));
+    }
+
+    @Test
+    void shouldSearchByStoredNativeNameFallingBackToLocaleData() {
+        // Given: Spanish con nombre nativo en el catálogo, German sin él
+        LanguageEntity spanish = entity(2L, "Spanish", "es");
+        spanish.setNativeName("Castellano");
+        when(jpaRepository.findAll()).thenReturn(List.of(entity(1L, "German", "de"), spanish));
+
+        // When / Then
+        assertEquals(List.of("Spanish"), names(adapter.searchByName("castellano", 10)));
+        assertEquals(List.of(), names(adapter.searchByName("espanol", 10)));
+        assertEquals(List.of("German"), names(adapter.searchByName("deutsch", 10)));
+        assertEquals("Castellano", adapter.findById(2L).orElseThrow().getNativeName());
+    }
+
+    private List<String> names(List<Language> languages) {
+        return languages.stream().map(Language::getName).toList();
+    }
+
+    private LanguageEntity entity(Long id, String name, String code) {
+        return LanguageEntity.builder()
+                .id(id)
+                .name(name)
+                .code(code)
+                .build();
+    }
+}
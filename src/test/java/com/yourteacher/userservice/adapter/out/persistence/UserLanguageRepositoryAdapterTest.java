@@ -0,0 +1,104 @@
+package com.yourteacher.userservice.adapter.out.persistence;
+
+import com.yourteacher.userservice.adapter.out.persistence.entity.UserEntity;
+import com.yourteacher.userservice.adapter.out.persistence.mapper.UserLanguageMapper;
+import com.yourteacher.userservice.domain.exception.ConcurrentUpdateException;
+import com.yourteacher.userservice.domain.exception.LanguageAlreadyAddedException;
+import com.yourteacher.userservice.domain.exception.UserNotFoundException;
+import com.yourteacher.userservice.domain.model.AuthProvider;
+import com.yourteacher.userservice.domain.model.Role;
+import com.yourteacher.userservice.domain.model.UserLanguage;
+import com.yourteacher.userservice.domain.model.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de integración (H2) para UserLanguageRepositoryAdapter
+ * Verifica que las violaciones de las restricciones reales de la base de datos
+ * se traducen a excepciones de dominio
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Import({UserLanguageRepositoryAdapter.class, UserLanguageMapper.class})
+class UserLanguageRepositoryAdapterTest {
+
+    private static final Long SPANISH = 2L;
+    private static final Long FRENCH = 3L;
+
+    @Autowired
+    private UserLanguageRepositoryAdapter adapter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = entityManager.persistAndFlush(UserEntity.builder()
+                .email("ana@example.com")
+                .password("$2a$10$hash")
+                .firstName("Ana")
+                .lastName("López")
+                .roles(Set.of(Role.STUDENT))
+                .status(UserStatus.ACTIVE)
+                .authProvider(AuthProvider.LOCAL)
+                .createdAt(LocalDateTime.now())
+                .build()).getId();
+    }
+
+    @Test
+    void shouldInsertUserLanguage() {
+        // When
+        UserLanguage inserted = adapter.insert(UserLanguage.create(userId, SPANISH, true));
+
+        // Then
+        assertNotNull(inserted.getId());
+        assertTrue(adapter.existsByUserIdAndLanguageId(userId, SPANISH));
+    }
+
+    @Test
+    void shouldTranslateUniqueKeyViolationToLanguageAlreadyAdded() {
+        // Given
+        adapter.insert(UserLanguage.create(userId, SPANISH, false));
+
+        // When / Then
+        assertThrows(LanguageAlreadyAddedException.class,
+                () -> adapter.insert(UserLanguage.create(userId, SPANISH, false)));
+    }
+
+    @Test
+    void shouldTranslateUserForeignKeyViolationToUserNotFound() {
+        // When / Then
+        assertThrows(UserNotFoundException.class,
+                () -> adapter.insert(UserLanguage.create(userId + 1000, SPANISH, false)));
+    }
+
+    @Test
+    void shouldTranslateUniqueKeyViolationInBatchToConcurrentUpdate() {
+        // Given: otra petición añadió el mismo idioma después de la comprobación previa
+        adapter.insert(UserLanguage.create(userId, FRENCH, false));
+
+        // When / Then
+        assertThrows(ConcurrentUpdateException.class, () -> adapter.insertAll(List.of(
+                UserLanguage.create(userId, SPANISH, false),
+                UserLanguage.create(userId, FRENCH, false))));
+    }
+
+    @Test
+    void shouldTranslateUserForeignKeyViolationInBatchToUserNotFound() {
+        // When / Then
+        assertThrows(UserNotFoundException.class, () -> adapter.insertAll(List.of(
+                UserLanguage.create(userId + 1000, SPANISH, false),
+                UserLanguage.create(userId + 1000, FRENCH, false))));
+    }
+}
@@ -0,0 +1,96 @@
+package com.yourteacher.userservice.adapter.out.persistence;
+
+import com.yourteacher.userservice.adapter.out.persistence.projection.UserProfileRow;
+import com.yourteacher.userservice.domain.model.Role;
+import com.yourteacher.userservice.domain.model.UserLanguage;
+import com.yourteacher.userservice.domain.model.UserProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para UserProfileRepositoryAdapter
+ * Verifica que las filas del JOIN se agrupan en un único perfil
+ */
+@ExtendWith(MockitoExtension.class)
+class UserProfileRepositoryAdapterTest {
+
+    @Mock
+    private JpaUserRepository jpaRepository;
+
+    private UserProfileRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UserProfileRepositoryAdapter(jpaRepository);
+    }
+
+    @Test
+    void shouldGroupJoinRowsIntoProfile() {
+        // Given: 2 roles x 2 idiomas = 4 filas
+        List<UserProfileRow> rows = List.of(
+                row(Role.STUDENT, 10L, 2L, "Spanish", true),
+                row(Role.ADMIN, 10L, 2L, "Spanish", true),
+                row(Role.STUDENT, 11L, 1L, "English", false),
+                row(Role.ADMIN, 11L, 1L, "English", false));
+        when(jpaRepository.findProfileRows(1L)).thenReturn(rows);
+
+        // When
+        UserProfile profile = adapter.findProfileById(1L).orElseThrow();
+
+        // Then
+        assertEquals("test@example.com", profile.getUser().getEmail());
+        assertNull(profile.getUser().getPassword());
+        assertEquals(Set.of(Role.STUDENT, Role.ADMIN), profile.getUser().getRoles());
+        assertEquals(List.of(2L, 1L), profile.getLanguages().stream().map(UserLanguage::getLanguageId).toList());
+        assertTrue(profile.getLanguages().get(0).isNative());
+        assertEquals("English", profile.getLanguageDetails().get(1L).getName());
+    }
+
+    @Test
+    void shouldReturnProfileWithoutLanguages() {
+        // Given
+        UserProfileRow row = row(Role.STUDENT, null, null, null, null);
+        when(jpaRepository.findProfileRows(1L)).thenReturn(List.of(row));
+
+        // When
+        UserProfile profile = adapter.findProfileById(1L).orElseThrow();
+
+        // Then
+        assertTrue(profile.getLanguages().isEmpty());
+        assertTrue(profile.getLanguageDetails().isEmpty());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenUserDoesNotExist() {
+        // Given
+        when(jpaRepository.findProfileRows(99L)).thenReturn(List.of());
+
+        // When
+        Optional<UserProfile> profile = adapter.findProfileById(99L);
+
+        // Then
+        assertTrue(profile.isEmpty());
+    }
+
+    private UserProfileRow row(Role role, Long userLanguageId, Long languageId, String languageName, Boolean isNative) {
+        UserProfileRow row = mock(UserProfileRow.class);
+        lenient().when(row.getId()).thenReturn(1L);
+        lenient().when(row.getEmail()).thenReturn("test@example.com");
+        lenient().when(row.getRole()).thenReturn(role);
+        lenient().when(row.getUserLanguageId()).thenReturn(userLanguageId);
+        lenient().when(row.getLanguageId()).thenReturn(languageId);
+        lenient().when(row.getLanguageName()).thenReturn(languageName);
+        lenient().when(row.getIsNative()).thenReturn(isNative);
+        return row;
+    }
+}
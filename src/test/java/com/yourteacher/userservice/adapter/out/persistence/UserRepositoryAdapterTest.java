@@ -0,0 +1,96 @@
+package com.yourteacher.userservice.adapter.out.persistence;
+
+import com.yourteacher.userservice.adapter.out.persistence.entity.UserEntity;
+import com.yourteacher.userservice.adapter.out.persistence.mapper.UserMapper;
+import com.yourteacher.userservice.domain.model.Role;
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserFilter;
+import com.yourteacher.userservice.domain.model.UserPage;
+import com.yourteacher.userservice.domain.model.UserStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para la paginación y el recorrido de usuarios de UserRepositoryAdapter
+ */
+@ExtendWith(MockitoExtension.class)
+class UserRepositoryAdapterTest {
+
+    @Mock
+    private JpaUserRepository jpaRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private UserRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UserRepositoryAdapter(jpaRepository, new UserMapper(), entityManager);
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenMoreUsersExist() {
+        // Given: se piden 2 usuarios y el repositorio devuelve 3 (limit + 1)
+        UserFilter filter = UserFilter.builder().status(UserStatus.ACTIVE).role(Role.STUDENT).build();
+        when(jpaRepository.findPageAfter(10L, UserStatus.ACTIVE, null, Role.STUDENT, PageRequest.ofSize(3)))
+                .thenReturn(List.of(entity(11L), entity(12L), entity(13L)));
+
+        // When
+        UserPage page = adapter.findPage(filter, 10L, 2);
+
+        // Then
+        assertEquals(List.of(11L, 12L), page.getUsers().stream().map(User::getId).toList());
+        assertEquals(12L, page.getNextCursor());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutCursor() {
+        // Given
+        when(jpaRepository.findPageAfter(0L, null, null, null, PageRequest.ofSize(3)))
+                .thenReturn(List.of(entity(1L), entity(2L)));
+
+        // When
+        UserPage page = adapter.findPage(UserFilter.none(), null, 2);
+
+        // Then
+        assertEquals(2, page.getUsers().size());
+        assertNull(page.getNextCursor());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void shouldDetachEachStreamedEntity() {
+        // Given
+        UserEntity first = entity(1L);
+        UserEntity second = entity(2L);
+        when(jpaRepository.streamForExport(UserStatus.ACTIVE, null)).thenReturn(Stream.of(first, second));
+
+        // When
+        List<Long> ids = adapter.streamUsers(UserStatus.ACTIVE, null).map(User::getId).toList();
+
+        // Then
+        assertEquals(List.of(1L, 2L), ids);
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    private UserEntity entity(Long id) {
+        return UserEntity.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.yourteacher.userservice.adapter.out.security;
+
+import com.yourteacher.userservice.domain.exception.HashingCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para BcryptPasswordEncoderAdapter
+ */
+class BcryptPasswordEncoderAdapterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BcryptPasswordEncoderAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
+    }
+
+    @Test
+    void shouldEncodeAndMatchPasswordInHashingPool() {
+        // Given
+        adapter = new BcryptPasswordEncoderAdapter(new BCryptPasswordEncoder(4), strength(4), meterRegistry,
+                2, 10, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        // When
+        String encoded = adapter.encode("password123");
+
+        // Then
+        assertTrue(adapter.matches("password123", encoded));
+        assertFalse(adapter.matches("wrong", encoded));
+        assertEquals(1, meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // Given: un único hilo ocupado y la cola (capacidad 1) llena
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        adapter = new BcryptPasswordEncoderAdapter(blockingEncoder(started, release), strength(4), meterRegistry,
+                1, 1, Duration.ofSeconds(5), Duration.ofSeconds(3));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> adapter.encode("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> adapter.encode("b"));
+        waitUntilQueued();
+
+        // When / Then
+        HashingCapacityExceededException exception =
+                assertThrows(HashingCapacityExceededException.class, () -> adapter.encode("c"));
+        assertEquals(Duration.ofSeconds(3), exception.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+
+        release.countDown();
+        assertNotNull(running.get(5, TimeUnit.SECONDS));
+        assertNotNull(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldWaitForCapacityInsteadOfHashingBulkOnCallerThread() throws Exception {
+        // Given: el único hilo ocupado y la cola llena por logins interactivos
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Set<String> hashingThreads = ConcurrentHashMap.newKeySet();
+        BCryptPasswordEncoder blocking = blockingEncoder(started, release);
+        adapter = new BcryptPasswordEncoderAdapter(new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                hashingThreads.add(Thread.currentThread().getName());
+                return blocking.encode(rawPassword);
+            }
+        }, strength(4), meterRegistry, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> adapter.encode("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> adapter.encode("b"));
+        waitUntilQueued();
+
+        // When: la importación espera a que haya sitio en lugar de hashear en su hilo
+        CompletableFuture<List<String>> bulk = CompletableFuture.supplyAsync(() -> adapter.encodeAll(List.of("c", "d", "e")));
+        Thread.sleep(100);
+        assertFalse(bulk.isDone());
+        release.countDown();
+
+        // Then
+        assertEquals(3, bulk.get(5, TimeUnit.SECONDS).size());
+        assertNotNull(running.get(5, TimeUnit.SECONDS));
+        assertNotNull(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(Set.of("password-hash-1"), hashingThreads);
+        assertEquals(0.0, meterRegistry.get("password.hash.rejected").counter().count());
+    }
+
+    @Test
+    void shouldRequestUpgradeOnlyWhenCostIsBelowTarget() {
+        // Given
+        adapter = new BcryptPasswordEncoderAdapter(new BCryptPasswordEncoder(5), strength(5), meterRegistry,
+                1, 10, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        // When / Then
+        assertFalse(adapter.upgradeEncoding(adapter.encode("password123")));
+        assertTrue(adapter.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password123")));
+        assertFalse(adapter.upgradeEncoding("$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy"));
+        assertFalse(adapter.upgradeEncoding(null));
+        assertFalse(adapter.upgradeEncoding("not-a-bcrypt-hash"));
+    }
+
+    private BcryptStrengthCalibrator strength(int strength) {
+        return new BcryptStrengthCalibrator(strength, Duration.ofMillis(250), 4, 31, true);
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hash.queue.size").gauge().value() < 1) {
+            assertTrue(System.nanoTime() < deadline, "La tarea no llegó a la cola");
+            Thread.sleep(10);
+        }
+    }
+
+    private BCryptPasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+    }
+}
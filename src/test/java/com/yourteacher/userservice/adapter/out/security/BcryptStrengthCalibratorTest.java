@@ -0,0 +1,42 @@
+package com.yourteacher.userservice.adapter.out.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para la calibración del coste de BCrypt
+ */
+class BcryptStrengthCalibratorTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void shouldUseConfiguredStrengthWithoutCalibrating() {
+        BcryptStrengthCalibrator calibrator = new BcryptStrengthCalibrator(12, Duration.ofMillis(250), 10, 14, false);
+
+        assertEquals(12, calibrator.getStrength());
+    }
+
+    @Test
+    void shouldRequireExplicitStrengthWhenCalibrationIsNotAllowed() {
+        assertThrows(IllegalStateException.class,
+                () -> new BcryptStrengthCalibrator(0, Duration.ofMillis(250), 10, 14, false));
+    }
+
+    @Test
+    void shouldPickHighestStrengthWithinTarget() {
+        // Coste 10 tarda 50 ms: 11 -> 100 ms, 12 -> 200 ms, 13 -> 400 ms
+        assertEquals(12, BcryptStrengthCalibrator.strengthFor(250 * MS, 50 * MS, 4, 31));
+        assertEquals(10, BcryptStrengthCalibrator.strengthFor(50 * MS, 50 * MS, 4, 31));
+        assertEquals(8, BcryptStrengthCalibrator.strengthFor(15 * MS, 50 * MS, 4, 31));
+    }
+
+    @Test
+    void shouldClampStrengthToConfiguredBounds() {
+        assertEquals(10, BcryptStrengthCalibrator.strengthFor(1 * MS, 50 * MS, 10, 14));
+        assertEquals(14, BcryptStrengthCalibrator.strengthFor(100_000 * MS, 50 * MS, 10, 14));
+    }
+}
@@ -0,0 +1,64 @@
+package com.yourteacher.userservice.adapter.out.security;
+
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.port.out.JwtTokenProvider.TokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para JwtTokenProviderAdapter
+ */
+class JwtTokenProviderAdapterTest {
+
+    private static final String SECRET = "test-secret-key-with-at-least-256-bits-for-hmac";
+
+    private final JwtTokenProviderAdapter provider = new JwtTokenProviderAdapter(SECRET, 60_000, new SimpleMeterRegistry());
+
+    @Test
+    void shouldParseClaimsOfGeneratedToken() {
+        String token = provider.generateToken(user());
+
+        Optional<TokenClaims> claims = provider.parseToken(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals("test@example.com", claims.get().getSubject());
+        assertEquals(42L, claims.get().getUserId());
+        assertNotNull(claims.get().getExpiresAt());
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherKey() {
+        JwtTokenProviderAdapter otherProvider =
+                new JwtTokenProviderAdapter("another-secret-key-with-at-least-256-bits-hmac", 60_000, new SimpleMeterRegistry());
+        String token = otherProvider.generateToken(user());
+
+        assertTrue(provider.parseToken(token).isEmpty());
+        assertFalse(provider.validateToken(token));
+    }
+
+    @Test
+    void shouldRejectExpiredToken() {
+        JwtTokenProviderAdapter expiredProvider = new JwtTokenProviderAdapter(SECRET, -1_000, new SimpleMeterRegistry());
+        String token = expiredProvider.generateToken(user());
+
+        assertTrue(provider.parseToken(token).isEmpty());
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertTrue(provider.parseToken("not-a-jwt").isEmpty());
+    }
+
+    private User user() {
+        return User.builder()
+                .id(42L)
+                .email("test@example.com")
+                .firstName("Juan")
+                .lastName("Pérez")
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.yourteacher.userservice.application.service;
+
+import com.yourteacher.userservice.domain.model.Role;
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.port.in.ImportUsersUseCase.ImportResult;
+import com.yourteacher.userservice.domain.port.in.ImportUsersUseCase.ImportRow;
+import com.yourteacher.userservice.domain.port.in.ImportUsersUseCase.ImportStatus;
+import com.yourteacher.userservice.domain.port.in.ImportUsersUseCase.ImportSummary;
+import com.yourteacher.userservice.domain.port.out.PasswordEncoder;
+import com.yourteacher.userservice.domain.port.out.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para ImportUsersService
+ * Verifica la deduplicación de emails, el encriptado en lote y la inserción por bloques
+ */
+@ExtendWith(MockitoExtension.class)
+class ImportUsersServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private ImportUsersService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImportUsersService(userRepository, passwordEncoder, 2);
+    }
+
+    @Test
+    void shouldSkipDuplicatesAndInsertNewUsersInBatches() {
+        // Given: bloques de 2 filas; "taken" ya existe y "new" se repite en el fichero
+        when(userRepository.findExistingEmails(List.of("new@example.com", "taken@example.com")))
+                .thenReturn(Set.of("taken@example.com"));
+        when(userRepository.findExistingEmails(List.of("other@example.com"))).thenReturn(Set.of());
+        when(passwordEncoder.encodeAll(anyList()))
+                .thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                        .map(raw -> "hash-" + raw)
+                        .toList());
+        when(userRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.<List<User>>getArgument(0)
+                .stream()
+                .map(user -> User.builder().id(100L).email(user.getEmail()).build())
+                .toList());
+        List<List<ImportResult>> chunks = new ArrayList<>();
+
+        // When
+        ImportSummary summary = service.importUsers(Stream.of(
+                ImportRow.of(1, user("new@example.com")),
+                ImportRow.of(2, user("taken@example.com")),
+                ImportRow.of(3, user("new@example.com")),
+                ImportRow.of(4, user("other@example.com"))), chunks::add);
+
+        // Then
+        assertEquals(2, chunks.size());
+        assertEquals(List.of(ImportStatus.CREATED, ImportStatus.DUPLICATE),
+                chunks.get(0).stream().map(ImportResult::getStatus).toList());
+        assertEquals(List.of(ImportStatus.DUPLICATE, ImportStatus.CREATED),
+                chunks.get(1).stream().map(ImportResult::getStatus).toList());
+        assertEquals(100L, chunks.get(0).get(0).getUserId());
+        assertEquals(new ImportSummary(4, 2, 2, 0, 0), summary);
+        verify(userRepository, times(2)).insertAll(argThat(users ->
+                users.size() == 1 && users.get(0).getPassword().startsWith("hash-")));
+    }
+
+    @Test
+    void shouldReportInvalidRowsWithoutHashing() {
+        // Given
+        List<List<ImportResult>> chunks = new ArrayList<>();
+
+        // When
+        ImportSummary summary = service.importUsers(Stream.of(
+                ImportRow.invalid(1, "bad@example.com", "La contraseña es obligatoria"),
+                ImportRow.of(2, user("not-an-email"))), chunks::add);
+
+        // Then
+        assertEquals(new ImportSummary(2, 0, 0, 2, 0), summary);
+        assertEquals("La contraseña es obligatoria", chunks.get(0).get(0).getMessage());
+        verify(passwordEncoder, never()).encodeAll(anyList());
+        verify(userRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void shouldRetryRowByRowWhenBatchInsertFails() {
+        // Given: el lote falla porque uno de los emails se registró concurrentemente
+        User first = user("first@example.com");
+        User second = user("second@example.com");
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of());
+        when(passwordEncoder.encodeAll(anyList())).thenReturn(List.of("hash-1", "hash-2"));
+        when(userRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            if (users.size() > 1 || users.get(0).getEmail().equals("second@example.com")) {
+                throw new IllegalStateException("duplicate key");
+            }
+            return List.of(User.builder().id(7L).email(users.get(0).getEmail()).build());
+        });
+        List<List<ImportResult>> chunks = new ArrayList<>();
+
+        // When
+        ImportSummary summary = service.importUsers(
+                Stream.of(ImportRow.of(1, first), ImportRow.of(2, second)), chunks::add);
+
+        // Then
+        assertEquals(new ImportSummary(2, 1, 0, 0, 1), summary);
+        assertEquals(ImportStatus.CREATED, chunks.get(0).get(0).getStatus());
+        assertEquals(7L, chunks.get(0).get(0).getUserId());
+        assertEquals(ImportStatus.FAILED, chunks.get(0).get(1).getStatus());
+    }
+
+    private User user(String email) {
+        return User.builder()
+                .email(email)
+                .password("password123")
+                .firstName("Test")
+                .lastName("User")
+                .roles(Set.of(Role.STUDENT))
+                .build();
+    }
+}
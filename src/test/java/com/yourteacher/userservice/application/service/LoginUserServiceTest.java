@@ -0,0 +1,117 @@
+package com.yourteacher.userservice.application.service;
+
+import com.yourteacher.userservice.domain.exception.HashingCapacityExceededException;
+import com.yourteacher.userservice.domain.exception.InvalidCredentialsException;
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserStatus;
+import com.yourteacher.userservice.domain.port.in.LoginUseCase.LoginResponse;
+import com.yourteacher.userservice.domain.port.out.JwtTokenProvider;
+import com.yourteacher.userservice.domain.port.out.PasswordEncoder;
+import com.yourteacher.userservice.domain.port.out.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para LoginUserService
+ * Utiliza mocks para las dependencias (repositorio, encoder y JWT)
+ */
+@ExtendWith(MockitoExtension.class)
+class LoginUserServiceTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @InjectMocks
+    private LoginUserService service;
+
+    @Test
+    void shouldLoginWithoutRehashWhenEncodingIsCurrent() {
+        // Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(activeUser()));
+        when(passwordEncoder.matches("password123", "$2a$10$hash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("$2a$10$hash")).thenReturn(false);
+        when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("token");
+
+        // When
+        LoginResponse response = service.login(EMAIL, "password123");
+
+        // Then
+        assertEquals("token", response.getToken());
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).replacePasswordHash(any(), any(), any());
+    }
+
+    @Test
+    void shouldRehashPasswordWhenEncodingIsOutdated() {
+        // Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(activeUser()));
+        when(passwordEncoder.matches("password123", "$2a$10$hash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("$2a$10$hash")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("$2a$12$newhash");
+        when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("token");
+
+        // When
+        service.login(EMAIL, "password123");
+
+        // Then
+        verify(userRepository).replacePasswordHash(1L, "$2a$10$hash", "$2a$12$newhash");
+    }
+
+    @Test
+    void shouldLoginWhenRehashIsRejectedBySaturation() {
+        // Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(activeUser()));
+        when(passwordEncoder.matches("password123", "$2a$10$hash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("$2a$10$hash")).thenReturn(true);
+        when(passwordEncoder.encode("password123"))
+                .thenThrow(new HashingCapacityExceededException(Duration.ofSeconds(1)));
+        when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("token");
+
+        // When
+        LoginResponse response = service.login(EMAIL, "password123");
+
+        // Then
+        assertEquals("token", response.getToken());
+        verify(userRepository, never()).replacePasswordHash(any(), any(), any());
+    }
+
+    @Test
+    void shouldNotRehashWhenPasswordDoesNotMatch() {
+        // Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(activeUser()));
+        when(passwordEncoder.matches("wrong", "$2a$10$hash")).thenReturn(false);
+
+        // When / Then
+        assertThrows(InvalidCredentialsException.class, () -> service.login(EMAIL, "wrong"));
+        verify(passwordEncoder, never()).upgradeEncoding(anyString());
+        verify(userRepository, never()).replacePasswordHash(any(), any(), any());
+    }
+
+    private User activeUser() {
+        return User.builder()
+                .id(1L)
+                .email(EMAIL)
+                .password("$2a$10$hash")
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+}
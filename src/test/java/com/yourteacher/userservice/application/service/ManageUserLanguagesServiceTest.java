@@ -6,7 +6,6 @@ import com.yourteacher.userservice.domain.exception.LanguageNotFoundException;
 import com.yourteacher.userservice.domain.exception.NativeLanguageCannotBeRemovedException;
 import com.yourteacher.userservice.domain.exception.UserNotFoundException;
 import com.yourteacher.userservice.domain.model.Language;
-import com.yourteacher.userservice.domain.model.User;
 import com.yourteacher.userservice.domain.model.UserLanguage;
 import com.yourteacher.userservice.domain.port.out.LanguageRepository;
 import com.yourteacher.userservice.domain.port.out.UserLanguageRepository;
@@ -17,12 +16,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -47,48 +50,40 @@ class ManageUserLanguagesServiceTest {
     // ==================== addLanguageToUser Tests ====================
 
     @Test
-    void shouldAddLanguageToUserSuccessfully() {
+    void shouldAddLanguageToUserWithSingleInsert() {
         // Given
         Long userId = 1L;
         Long languageId = 2L;
-        User mockUser = User.builder().id(userId).build();
-        Language mockLanguage = Language.builder().id(languageId).build();
-        UserLanguage expectedUserLanguage = UserLanguage.createLearning(userId, languageId);
+        UserLanguage expectedUserLanguage = UserLanguage.createLearning(userId, languageId).withId(10L);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
-        when(languageRepository.findById(languageId)).thenReturn(Optional.of(mockLanguage));
-        when(userLanguageRepository.existsByUserIdAndLanguageId(userId, languageId)).thenReturn(false);
-        when(userLanguageRepository.save(any(UserLanguage.class))).thenReturn(expectedUserLanguage);
+        when(languageRepository.existsById(languageId)).thenReturn(true);
+        when(userLanguageRepository.insert(any(UserLanguage.class))).thenReturn(expectedUserLanguage);
 
         // When
         UserLanguage result = service.addLanguageToUser(userId, languageId);
 
-        // Then
+        // Then: sin comprobaciones previas contra la base de datos
         assertNotNull(result);
         assertEquals(userId, result.getUserId());
         assertEquals(languageId, result.getLanguageId());
         assertFalse(result.isNative());
-        verify(userRepository).findById(userId);
-        verify(languageRepository).findById(languageId);
-        verify(userLanguageRepository).existsByUserIdAndLanguageId(userId, languageId);
-        verify(userLanguageRepository).save(any(UserLanguage.class));
+        verify(userLanguageRepository).insert(argThat(userLanguage -> !userLanguage.isNative()));
+        verify(userLanguageRepository, never()).existsByUserIdAndLanguageId(anyLong(), anyLong());
+        verifyNoInteractions(userRepository);
     }
 
     @Test
     void shouldThrowExceptionWhenAddingLanguageToNonExistentUser() {
-        // Given
+        // Given: la clave foránea rechaza el INSERT
         Long userId = 1L;
         Long languageId = 2L;
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(languageRepository.existsById(languageId)).thenReturn(true);
+        when(userLanguageRepository.insert(any(UserLanguage.class))).thenThrow(new UserNotFoundException(userId));
 
         // When & Then
         assertThrows(UserNotFoundException.class, () -> {
             service.addLanguageToUser(userId, languageId);
         });
-
-        verify(userRepository).findById(userId);
-        verify(languageRepository, never()).findById(anyLong());
-        verify(userLanguageRepository, never()).save(any());
     }
 
     @Test
@@ -96,99 +91,47 @@ class ManageUserLanguagesServiceTest {
         // Given
         Long userId = 1L;
         Long languageId = 2L;
-        User mockUser = User.builder().id(userId).build();
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
-        when(languageRepository.findById(languageId)).thenReturn(Optional.empty());
+        when(languageRepository.existsById(languageId)).thenReturn(false);
 
         // When & Then
         assertThrows(LanguageNotFoundException.class, () -> {
             service.addLanguageToUser(userId, languageId);
         });
 
-        verify(userRepository).findById(userId);
-        verify(languageRepository).findById(languageId);
-        verify(userLanguageRepository, never()).save(any());
+        verify(userLanguageRepository, never()).insert(any());
     }
 
     @Test
     void shouldThrowExceptionWhenLanguageAlreadyAdded() {
-        // Given
+        // Given: la restricción única rechaza el INSERT
         Long userId = 1L;
         Long languageId = 2L;
-        User mockUser = User.builder().id(userId).build();
-        Language mockLanguage = Language.builder().id(languageId).build();
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
-        when(languageRepository.findById(languageId)).thenReturn(Optional.of(mockLanguage));
-        when(userLanguageRepository.existsByUserIdAndLanguageId(userId, languageId)).thenReturn(true);
+        when(languageRepository.existsById(languageId)).thenReturn(true);
+        when(userLanguageRepository.insert(any(UserLanguage.class)))
+                .thenThrow(new LanguageAlreadyAddedException(userId, languageId));
 
         // When & Then
         assertThrows(LanguageAlreadyAddedException.class, () -> {
             service.addLanguageToUser(userId, languageId);
         });
-
-        verify(userLanguageRepository, never()).save(any());
     }
 
     // ==================== setNativeLanguage Tests ====================
 
     @Test
-    void shouldSetNativeLanguageSuccessfully() {
+    void shouldSetNativeLanguageWithSingleUpdate() {
         // Given
         Long userId = 1L;
         Long languageId = 2L;
-        User mockUser = User.builder().id(userId).build();
-        Language mockLanguage = Language.builder().id(languageId).build();
-        UserLanguage existingUserLanguage = UserLanguage.createLearning(userId, languageId).withId(10L);
-        UserLanguage nativeUserLanguage = existingUserLanguage.markAsNative();
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
-        when(languageRepository.findById(languageId)).thenReturn(Optional.of(mockLanguage));
-        when(userLanguageRepository.findByUserIdAndLanguageId(userId, languageId))
-                .thenReturn(Optional.of(existingUserLanguage));
-        when(userLanguageRepository.findNativeLanguageByUserId(userId)).thenReturn(Optional.empty());
-        when(userLanguageRepository.save(any(UserLanguage.class))).thenReturn(nativeUserLanguage);
-
-        // When
-        UserLanguage result = service.setNativeLanguage(userId, languageId);
-
-        // Then
-        assertNotNull(result);
-        assertTrue(result.isNative());
-        verify(userRepository).findById(userId);
-        verify(languageRepository).findById(languageId);
-        verify(userLanguageRepository).findByUserIdAndLanguageId(userId, languageId);
-        verify(userLanguageRepository).save(any(UserLanguage.class));
-    }
-
-    @Test
-    void shouldUnmarkPreviousNativeLanguageWhenSettingNewNative() {
-        // Given
-        Long userId = 1L;
-        Long oldNativeLanguageId = 2L;
-        Long newNativeLanguageId = 3L;
-
-        User mockUser = User.builder().id(userId).build();
-        Language mockLanguage = Language.builder().id(newNativeLanguageId).build();
-
-        UserLanguage oldNativeLanguage = UserLanguage.createNative(userId, oldNativeLanguageId).withId(10L);
-        UserLanguage newLanguageToMakeNative = UserLanguage.createLearning(userId, newNativeLanguageId).withId(11L);
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
-        when(languageRepository.findById(newNativeLanguageId)).thenReturn(Optional.of(mockLanguage));
-        when(userLanguageRepository.findByUserIdAndLanguageId(userId, newNativeLanguageId))
-                .thenReturn(Optional.of(newLanguageToMakeNative));
-        when(userLanguageRepository.findNativeLanguageByUserId(userId))
-                .thenReturn(Optional.of(oldNativeLanguage));
-        when(userLanguageRepository.save(any(UserLanguage.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(userLanguageRepository.switchNativeLanguage(userId, languageId)).thenReturn(true);
 
         // When
-        service.setNativeLanguage(userId, newNativeLanguageId);
+        service.setNativeLanguage(userId, languageId);
 
-        // Then
-        verify(userLanguageRepository, times(2)).save(any(UserLanguage.class));
+        // Then: sin consultas de validación previas
+        verify(userLanguageRepository).switchNativeLanguage(userId, languageId);
+        verifyNoInteractions(userRepository, languageRepository);
+        verify(userLanguageRepository, never()).save(any());
     }
 
     @Test
@@ -196,14 +139,13 @@ class ManageUserLanguagesServiceTest {
         // Given
         Long userId = 1L;
         Long languageId = 2L;
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userLanguageRepository.switchNativeLanguage(userId, languageId)).thenReturn(false);
+        when(userRepository.existsById(userId)).thenReturn(false);
 
         // When & Then
         assertThrows(UserNotFoundException.class, () -> {
             service.setNativeLanguage(userId, languageId);
         });
-
-        verify(userLanguageRepository, never()).save(any());
     }
 
     @Test
@@ -211,17 +153,15 @@ class ManageUserLanguagesServiceTest {
         // Given
         Long userId = 1L;
         Long languageId = 2L;
-        User mockUser = User.builder().id(userId).build();
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
-        when(languageRepository.findById(languageId)).thenReturn(Optional.empty());
+        when(userLanguageRepository.switchNativeLanguage(userId, languageId)).thenReturn(false);
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(languageRepository.existsById(languageId)).thenReturn(false);
 
         // When & Then
         assertThrows(LanguageNotFoundException.class, () -> {
             service.setNativeLanguage(userId, languageId);
         });
-
-        verify(userLanguageRepository, never()).save(any());
     }
 
     @Test
@@ -229,43 +169,33 @@ class ManageUserLanguagesServiceTest {
         // Given
         Long userId = 1L;
         Long languageId = 2L;
-        User mockUser = User.builder().id(userId).build();
-        Language mockLanguage = Language.builder().id(languageId).build();
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
-        when(languageRepository.findById(languageId)).thenReturn(Optional.of(mockLanguage));
-        when(userLanguageRepository.findByUserIdAndLanguageId(userId, languageId))
-                .thenReturn(Optional.empty());
+        when(userLanguageRepository.switchNativeLanguage(userId, languageId)).thenReturn(false);
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(languageRepository.existsById(languageId)).thenReturn(true);
 
         // When & Then
         assertThrows(LanguageNotAddedToUserException.class, () -> {
             service.setNativeLanguage(userId, languageId);
         });
-
-        verify(userLanguageRepository, never()).save(any());
     }
 
     // ==================== removeLanguageFromUser Tests ====================
 
     @Test
-    void shouldRemoveLanguageFromUserSuccessfully() {
+    void shouldRemoveLanguageFromUserWithSingleDelete() {
         // Given
         Long userId = 1L;
         Long languageId = 2L;
-        User mockUser = User.builder().id(userId).build();
-        UserLanguage learningLanguage = UserLanguage.createLearning(userId, languageId);
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
-        when(userLanguageRepository.findByUserIdAndLanguageId(userId, languageId))
-                .thenReturn(Optional.of(learningLanguage));
+        when(userLanguageRepository.deleteLearningLanguage(userId, languageId)).thenReturn(true);
 
         // When
         service.removeLanguageFromUser(userId, languageId);
 
         // Then
-        verify(userRepository).findById(userId);
-        verify(userLanguageRepository).findByUserIdAndLanguageId(userId, languageId);
-        verify(userLanguageRepository).deleteByUserIdAndLanguageId(userId, languageId);
+        verify(userLanguageRepository).deleteLearningLanguage(userId, languageId);
+        verify(userLanguageRepository, never()).findByUserIdAndLanguageId(anyLong(), anyLong());
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -273,28 +203,24 @@ class ManageUserLanguagesServiceTest {
         // Given
         Long userId = 1L;
         Long languageId = 2L;
-        User mockUser = User.builder().id(userId).build();
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+        when(userLanguageRepository.deleteLearningLanguage(userId, languageId)).thenReturn(false);
         when(userLanguageRepository.findByUserIdAndLanguageId(userId, languageId))
                 .thenReturn(Optional.empty());
+        when(userRepository.existsById(userId)).thenReturn(true);
 
-        // When
-        service.removeLanguageFromUser(userId, languageId);
-
-        // Then
-        verify(userLanguageRepository, never()).deleteByUserIdAndLanguageId(anyLong(), anyLong());
+        // When & Then
+        assertDoesNotThrow(() -> service.removeLanguageFromUser(userId, languageId));
     }
 
     @Test
     void shouldThrowExceptionWhenRemovingNativeLanguage() {
-        // Given
+        // Given: la sentencia no elimina el idioma nativo
         Long userId = 1L;
         Long languageId = 2L;
-        User mockUser = User.builder().id(userId).build();
         UserLanguage nativeLanguage = UserLanguage.createNative(userId, languageId);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+        when(userLanguageRepository.deleteLearningLanguage(userId, languageId)).thenReturn(false);
         when(userLanguageRepository.findByUserIdAndLanguageId(userId, languageId))
                 .thenReturn(Optional.of(nativeLanguage));
 
@@ -302,8 +228,6 @@ class ManageUserLanguagesServiceTest {
         assertThrows(NativeLanguageCannotBeRemovedException.class, () -> {
             service.removeLanguageFromUser(userId, languageId);
         });
-
-        verify(userLanguageRepository, never()).deleteByUserIdAndLanguageId(anyLong(), anyLong());
     }
 
     @Test
@@ -311,14 +235,73 @@ class ManageUserLanguagesServiceTest {
         // Given
         Long userId = 1L;
         Long languageId = 2L;
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userLanguageRepository.deleteLearningLanguage(userId, languageId)).thenReturn(false);
+        when(userLanguageRepository.findByUserIdAndLanguageId(userId, languageId))
+                .thenReturn(Optional.empty());
+        when(userRepository.existsById(userId)).thenReturn(false);
 
         // When & Then
         assertThrows(UserNotFoundException.class, () -> {
             service.removeLanguageFromUser(userId, languageId);
         });
+    }
+
+    // ==================== updateUserLanguages Tests ====================
+
+    @Test
+    void shouldApplyBatchWithOneInsertOneSwitchAndOneDelete() {
+        // Given: tiene es (nativo) y fr; agrega en, de y fr (ya agregado), elimina fr y marca en como nativo
+        Long userId = 1L;
+        when(languageRepository.findAllByIds(any())).thenReturn(catalog(1L, 2L, 3L, 4L));
+        List<UserLanguage> current = List.of(
+                UserLanguage.createNative(userId, 2L),
+                UserLanguage.createLearning(userId, 3L));
+        List<UserLanguage> updated = List.of(
+                UserLanguage.createLearning(userId, 2L),
+                UserLanguage.createNative(userId, 1L),
+                UserLanguage.createLearning(userId, 4L));
+        when(userLanguageRepository.findByUserId(userId)).thenReturn(current, updated);
+        when(userLanguageRepository.switchNativeLanguage(userId, 1L)).thenReturn(true);
+
+        // When
+        List<UserLanguage> result = service.updateUserLanguages(userId, List.of(1L, 4L, 1L), List.of(3L), 1L);
+
+        // Then
+        assertEquals(updated, result);
+        verify(userLanguageRepository).insertAll(argThat(userLanguages ->
+                userLanguages.stream().map(UserLanguage::getLanguageId).toList().equals(List.of(1L, 4L))));
+        verify(userLanguageRepository).switchNativeLanguage(userId, 1L);
+        verify(userLanguageRepository).deleteLearningLanguages(eq(userId), argThat(ids -> ids.equals(Set.of(3L))));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldRejectBatchRemovingNativeLanguageWithoutWriting() {
+        // Given
+        Long userId = 1L;
+        when(languageRepository.findAllByIds(any())).thenReturn(catalog(1L, 2L));
+        when(userLanguageRepository.findByUserId(userId)).thenReturn(List.of(UserLanguage.createNative(userId, 2L)));
+
+        // When & Then
+        assertThrows(NativeLanguageCannotBeRemovedException.class, () -> {
+            service.updateUserLanguages(userId, List.of(1L), List.of(2L), null);
+        });
+
+        verify(userLanguageRepository, never()).insertAll(any());
+        verify(userLanguageRepository, never()).deleteLearningLanguages(anyLong(), any());
+    }
+
+    @Test
+    void shouldRejectBatchWithUnknownLanguageBeforeQueryingUser() {
+        // Given
+        when(languageRepository.findAllByIds(any())).thenReturn(catalog(1L));
+
+        // When & Then
+        assertThrows(LanguageNotFoundException.class, () -> {
+            service.updateUserLanguages(1L, List.of(1L, 99L), List.of(), null);
+        });
 
-        verify(userLanguageRepository, never()).deleteByUserIdAndLanguageId(anyLong(), anyLong());
+        verifyNoInteractions(userLanguageRepository, userRepository);
     }
 
     // ==================== getUserLanguages Tests ====================
@@ -327,14 +310,12 @@ class ManageUserLanguagesServiceTest {
     void shouldGetUserLanguagesSuccessfully() {
         // Given
         Long userId = 1L;
-        User mockUser = User.builder().id(userId).build();
         List<UserLanguage> languages = List.of(
                 UserLanguage.createNative(userId, 1L),
                 UserLanguage.createLearning(userId, 2L),
                 UserLanguage.createLearning(userId, 3L)
         );
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
         when(userLanguageRepository.findByUserId(userId)).thenReturn(languages);
 
         // When
@@ -343,17 +324,16 @@ class ManageUserLanguagesServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(3, result.size());
-        verify(userRepository).findById(userId);
         verify(userLanguageRepository).findByUserId(userId);
+        verifyNoInteractions(userRepository);
     }
 
     @Test
     void shouldReturnEmptyListWhenUserHasNoLanguages() {
         // Given
         Long userId = 1L;
-        User mockUser = User.builder().id(userId).build();
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+        when(userRepository.existsById(userId)).thenReturn(true);
         when(userLanguageRepository.findByUserId(userId)).thenReturn(List.of());
 
         // When
@@ -368,14 +348,12 @@ class ManageUserLanguagesServiceTest {
     void shouldThrowExceptionWhenGettingLanguagesForNonExistentUser() {
         // Given
         Long userId = 1L;
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.existsById(userId)).thenReturn(false);
 
         // When & Then
         assertThrows(UserNotFoundException.class, () -> {
             service.getUserLanguages(userId);
         });
-
-        verify(userLanguageRepository, never()).findByUserId(anyLong());
     }
 
     // ==================== getNativeLanguage Tests ====================
@@ -385,10 +363,8 @@ class ManageUserLanguagesServiceTest {
         // Given
         Long userId = 1L;
         Long languageId = 2L;
-        User mockUser = User.builder().id(userId).build();
         UserLanguage nativeLanguage = UserLanguage.createNative(userId, languageId);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
         when(userLanguageRepository.findNativeLanguageByUserId(userId))
                 .thenReturn(Optional.of(nativeLanguage));
 
@@ -405,9 +381,8 @@ class ManageUserLanguagesServiceTest {
     void shouldReturnNullWhenUserHasNoNativeLanguage() {
         // Given
         Long userId = 1L;
-        User mockUser = User.builder().id(userId).build();
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+        when(userRepository.existsById(userId)).thenReturn(true);
         when(userLanguageRepository.findNativeLanguageByUserId(userId))
                 .thenReturn(Optional.empty());
 
@@ -422,7 +397,7 @@ class ManageUserLanguagesServiceTest {
     void shouldThrowExceptionWhenGettingNativeLanguageForNonExistentUser() {
         // Given
         Long userId = 1L;
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.existsById(userId)).thenReturn(false);
 
         // When & Then
         assertThrows(UserNotFoundException.class, () -> {
@@ -436,13 +411,11 @@ class ManageUserLanguagesServiceTest {
     void shouldGetLearningLanguagesSuccessfully() {
         // Given
         Long userId = 1L;
-        User mockUser = User.builder().id(userId).build();
         List<UserLanguage> learningLanguages = List.of(
                 UserLanguage.createLearning(userId, 2L),
                 UserLanguage.createLearning(userId, 3L)
         );
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
         when(userLanguageRepository.findLearningLanguagesByUserId(userId))
                 .thenReturn(learningLanguages);
 
@@ -459,9 +432,8 @@ class ManageUserLanguagesServiceTest {
     void shouldReturnEmptyListWhenUserHasNoLearningLanguages() {
         // Given
         Long userId = 1L;
-        User mockUser = User.builder().id(userId).build();
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+        when(userRepository.existsById(userId)).thenReturn(true);
         when(userLanguageRepository.findLearningLanguagesByUserId(userId))
                 .thenReturn(List.of());
 
@@ -477,11 +449,19 @@ class ManageUserLanguagesServiceTest {
     void shouldThrowExceptionWhenGettingLearningLanguagesForNonExistentUser() {
         // Given
         Long userId = 1L;
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.existsById(userId)).thenReturn(false);
 
         // When & Then
         assertThrows(UserNotFoundException.class, () -> {
             service.getLearningLanguages(userId);
         });
     }
+
+    private Map<Long, Language> catalog(Long... ids) {
+        Map<Long, Language> catalog = new HashMap<>();
+        for (Long id : ids) {
+            catalog.put(id, Language.builder().id(id).build());
+        }
+        return catalog;
+    }
 }
@@ -0,0 +1,126 @@
+package com.yourteacher.userservice.application.service;
+
+import com.yourteacher.userservice.domain.exception.ConcurrentUpdateException;
+import com.yourteacher.userservice.domain.model.AuthProvider;
+import com.yourteacher.userservice.domain.model.Role;
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserStatus;
+import com.yourteacher.userservice.domain.port.in.OAuthLoginUseCase.OAuthLoginRequest;
+import com.yourteacher.userservice.domain.port.in.OAuthLoginUseCase.OAuthLoginResponse;
+import com.yourteacher.userservice.domain.port.out.JwtTokenProvider;
+import com.yourteacher.userservice.domain.port.out.PrincipalCache;
+import com.yourteacher.userservice.domain.port.out.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para OAuthLoginService
+ * El nombre de un usuario existente se actualiza con una escritura versionada, sin save()
+ */
+@ExtendWith(MockitoExtension.class)
+class OAuthLoginServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @InjectMocks
+    private OAuthLoginService service;
+
+    @Test
+    void shouldUpdateChangedNamesWithReadVersion() {
+        // Given
+        when(userRepository.findByEmail("ana@example.com")).thenReturn(Optional.of(existingUser()));
+        when(userRepository.updateNames(eq(1L), eq("Anna"), eq("López"), any(LocalDateTime.class), eq(3L)))
+                .thenReturn(true);
+        when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("token");
+
+        // When
+        OAuthLoginResponse response = service.loginWithOAuth(request("Anna"));
+
+        // Then
+        ArgumentCaptor<User> tokenUser = ArgumentCaptor.forClass(User.class);
+        verify(jwtTokenProvider).generateToken(tokenUser.capture());
+        assertEquals("Anna", response.getFirstName());
+        assertFalse(response.isNewUser());
+        assertEquals(4L, tokenUser.getValue().getVersion());
+        assertEquals(AuthProvider.GOOGLE, tokenUser.getValue().getAuthProvider());
+        verify(userRepository, never()).save(any());
+        verify(principalCache).evict(1L);
+    }
+
+    @Test
+    void shouldFailWhenUserWasModifiedConcurrently() {
+        // Given: la versión leída (3) ya no es la actual
+        when(userRepository.findByEmail("ana@example.com")).thenReturn(Optional.of(existingUser()));
+        when(userRepository.updateNames(eq(1L), any(), any(), any(LocalDateTime.class), eq(3L))).thenReturn(false);
+
+        // When / Then
+        assertThrows(ConcurrentUpdateException.class, () -> service.loginWithOAuth(request("Anna")));
+        verify(userRepository, never()).save(any());
+        verifyNoInteractions(principalCache, jwtTokenProvider);
+    }
+
+    @Test
+    void shouldCreateNewUserWithOAuthProvider() {
+        // Given
+        when(userRepository.findByEmail("ana@example.com")).thenReturn(Optional.empty());
+        when(userRepository.save(any(User.class)))
+                .thenAnswer(invocation -> invocation.<User>getArgument(0).toBuilder().id(7L).version(0L).build());
+        when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("token");
+
+        // When
+        OAuthLoginResponse response = service.loginWithOAuth(request("Ana"));
+
+        // Then
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        assertTrue(response.isNewUser());
+        assertEquals(AuthProvider.GOOGLE, saved.getValue().getAuthProvider());
+        assertNull(saved.getValue().getVersion());
+    }
+
+    private OAuthLoginRequest request(String firstName) {
+        return OAuthLoginRequest.builder()
+                .email("ana@example.com")
+                .firstName(firstName)
+                .lastName("López")
+                .provider("google")
+                .providerId("google-123")
+                .build();
+    }
+
+    private User existingUser() {
+        return User.builder()
+                .id(1L)
+                .email("ana@example.com")
+                .password("$2a$10$hash")
+                .firstName("Ana")
+                .lastName("López")
+                .roles(Set.of(Role.STUDENT))
+                .status(UserStatus.ACTIVE)
+                .authProvider(AuthProvider.GOOGLE)
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .updatedAt(LocalDateTime.now().minusDays(1))
+                .version(3L)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.yourteacher.userservice.application.service;
+
+import com.yourteacher.userservice.domain.exception.UserNotFoundException;
+import com.yourteacher.userservice.domain.model.UserLanguage;
+import com.yourteacher.userservice.domain.port.out.ReactiveUserLanguageRepository;
+import com.yourteacher.userservice.domain.port.out.ReactiveUserProfileRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para ReactiveUserReadService
+ * Utiliza mocks para los puertos de salida reactivos
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveUserReadServiceTest {
+
+    @Mock
+    private ReactiveUserProfileRepository userProfileRepository;
+
+    @Mock
+    private ReactiveUserLanguageRepository userLanguageRepository;
+
+    @InjectMocks
+    private ReactiveUserReadService service;
+
+    @Test
+    void shouldEmitUserNotFoundWhenProfileDoesNotExist() {
+        // Given
+        when(userProfileRepository.findProfileById(99L)).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(service.getUserProfile(99L))
+                .expectError(UserNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldSplitNativeAndLearningLanguagesFromSingleQuery() {
+        // Given
+        UserLanguage nativeLanguage = UserLanguage.createNative(1L, 2L).withId(10L);
+        UserLanguage learningLanguage = UserLanguage.createLearning(1L, 3L).withId(11L);
+        when(userLanguageRepository.findByUserId(1L))
+                .thenReturn(Mono.just(List.of(nativeLanguage, learningLanguage)));
+
+        // When / Then
+        StepVerifier.create(service.getNativeLanguage(1L))
+                .expectNext(nativeLanguage)
+                .verifyComplete();
+        StepVerifier.create(service.getLearningLanguages(1L))
+                .expectNext(List.of(learningLanguage))
+                .verifyComplete();
+        verifyNoInteractions(userProfileRepository);
+    }
+
+    @Test
+    void shouldCompleteEmptyWhenUserHasNoNativeLanguage() {
+        // Given: el usuario existe pero no tiene idiomas
+        when(userLanguageRepository.findByUserId(1L)).thenReturn(Mono.just(List.of()));
+
+        // When / Then
+        StepVerifier.create(service.getNativeLanguage(1L))
+                .verifyComplete();
+    }
+}
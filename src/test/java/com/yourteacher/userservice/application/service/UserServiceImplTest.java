@@ -0,0 +1,149 @@
+package com.yourteacher.userservice.application.service;
+
+import com.yourteacher.userservice.domain.exception.ConcurrentUpdateException;
+import com.yourteacher.userservice.domain.model.AuthProvider;
+import com.yourteacher.userservice.domain.model.Role;
+import com.yourteacher.userservice.domain.model.User;
+import com.yourteacher.userservice.domain.model.UserStatus;
+import com.yourteacher.userservice.domain.port.out.PasswordEncoder;
+import com.yourteacher.userservice.domain.port.out.PrincipalCache;
+import com.yourteacher.userservice.domain.port.out.TokenRevocationList;
+import com.yourteacher.userservice.domain.port.out.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para las actualizaciones parciales de UserServiceImpl
+ * Cada operación debe persistir solo las columnas que cambia, sin save(),
+ * y solo si la versión del usuario no ha cambiado desde que se leyó
+ */
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @InjectMocks
+    private UserServiceImpl service;
+
+    @Test
+    void shouldUpdateOnlyStatusWhenDeactivating() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser()));
+        when(userRepository.updateStatus(eq(1L), eq(UserStatus.INACTIVE), any(LocalDateTime.class), eq(3L)))
+                .thenReturn(true);
+
+        // When
+        User user = service.deactivateUser(1L);
+
+        // Then
+        assertEquals(UserStatus.INACTIVE, user.getStatus());
+        assertEquals("Ana", user.getFirstName());
+        assertEquals(4L, user.getVersion());
+        verify(userRepository, never()).save(any());
+        verify(tokenRevocationList).revokeOlderThan(user);
+    }
+
+    @Test
+    void shouldUpdateNamesWithoutTouchingUnchangedRoles() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser()));
+        when(userRepository.updateNames(eq(1L), eq("Eva"), eq("López"), any(LocalDateTime.class), eq(3L)))
+                .thenReturn(true);
+        User changes = User.builder().firstName("Eva").build();
+
+        // When
+        User user = service.updateUser(1L, changes);
+
+        // Then
+        assertEquals("Eva", user.getFirstName());
+        assertEquals("López", user.getLastName());
+        verify(userRepository, never()).replaceRoles(anyLong(), any());
+        verify(userRepository, never()).save(any());
+        verifyNoInteractions(tokenRevocationList);
+    }
+
+    @Test
+    void shouldReplaceRolesAndRevokeTokensWhenRolesChange() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser()));
+        when(userRepository.updateNames(eq(1L), any(), any(), any(LocalDateTime.class), eq(3L))).thenReturn(true);
+        User changes = User.builder().roles(Set.of(Role.ADMIN)).build();
+
+        // When
+        User user = service.updateUser(1L, changes);
+
+        // Then
+        verify(userRepository).replaceRoles(1L, Set.of(Role.ADMIN));
+        verify(tokenRevocationList).revokeOlderThan(user);
+    }
+
+    @Test
+    void shouldFailWithoutReplacingRolesWhenUserWasModifiedConcurrently() {
+        // Given: la versión leída (3) ya no es la actual
+        when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser()));
+        when(userRepository.updateNames(eq(1L), any(), any(), any(LocalDateTime.class), eq(3L))).thenReturn(false);
+        User changes = User.builder().roles(Set.of(Role.ADMIN)).build();
+
+        // When / Then
+        assertThrows(ConcurrentUpdateException.class, () -> service.updateUser(1L, changes));
+        verify(userRepository, never()).replaceRoles(anyLong(), any());
+        verifyNoInteractions(principalCache, tokenRevocationList);
+    }
+
+    @Test
+    void shouldUpdateOnlyPasswordWhenChangingPassword() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser()));
+        when(passwordEncoder.matches("current", "$2a$10$hash")).thenReturn(true);
+        when(passwordEncoder.encode("new-password")).thenReturn("$2a$10$new");
+        when(userRepository.updatePassword(eq(1L), eq("$2a$10$new"), any(LocalDateTime.class), eq(3L)))
+                .thenReturn(true);
+
+        // When
+        User user = service.changePassword(1L, "current", "new-password");
+
+        // Then
+        assertEquals("$2a$10$new", user.getPassword());
+        assertEquals(4L, user.getVersion());
+        verify(userRepository, never()).save(any());
+    }
+
+    private User existingUser() {
+        return User.builder()
+                .id(1L)
+                .email("ana@example.com")
+                .password("$2a$10$hash")
+                .firstName("Ana")
+                .lastName("López")
+                .roles(Set.of(Role.STUDENT))
+                .status(UserStatus.ACTIVE)
+                .authProvider(AuthProvider.LOCAL)
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .updatedAt(LocalDateTime.now().minusDays(1))
+                .version(3L)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.yourteacher.userservice.infrastructure.config;
+
+import com.yourteacher.userservice.infrastructure.exception.DatabaseCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para el control de admisión de conexiones
+ */
+class AdmissionControlledDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DataSource target;
+    private AdmissionControlledDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new AdmissionControlledDataSource(target, 1, 0, Duration.ofMillis(10), Duration.ofSeconds(2));
+        dataSource.bindTo(meterRegistry);
+    }
+
+    @Test
+    void shouldRejectWhenAllConnectionsAreInUse() throws Exception {
+        // Given
+        Connection connection = dataSource.getConnection();
+
+        // When
+        DatabaseCapacityExceededException exception =
+                assertThrows(DatabaseCapacityExceededException.class, dataSource::getConnection);
+
+        // Then
+        assertEquals(Duration.ofSeconds(2), exception.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("db.admission.rejected").counter().count());
+        verify(target, times(1)).getConnection();
+        connection.close();
+    }
+
+    @Test
+    void shouldReleasePermitOnceWhenConnectionIsClosed() throws Exception {
+        // Given
+        Connection connection = dataSource.getConnection();
+
+        // When
+        connection.close();
+        connection.close();
+
+        // Then
+        assertEquals(0.0, meterRegistry.get("db.admission.active").gauge().value());
+        dataSource.getConnection();
+        assertEquals(1.0, meterRegistry.get("db.admission.active").gauge().value());
+    }
+}
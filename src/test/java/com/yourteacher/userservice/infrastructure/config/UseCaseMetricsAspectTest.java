@@ -0,0 +1,95 @@
+package com.yourteacher.userservice.infrastructure.config;
+
+import com.yourteacher.userservice.domain.exception.ConcurrentUpdateException;
+import com.yourteacher.userservice.domain.exception.InvalidCredentialsException;
+import com.yourteacher.userservice.domain.exception.UserNotFoundException;
+import com.yourteacher.userservice.domain.port.in.LoginUseCase;
+import com.yourteacher.userservice.domain.port.in.ReactiveUserReadUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para las métricas de los casos de uso
+ */
+class UseCaseMetricsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldTimeSuccessfulOperationTaggedWithPortInterface() {
+        // Given
+        LoginUseCase loginUseCase = proxy(mock(LoginUseCase.class));
+
+        // When
+        loginUseCase.login("ana@example.com", "secret");
+
+        // Then
+        assertEquals(1, meterRegistry.get("usecase.duration")
+                .tag("usecase", "LoginUseCase")
+                .tag("method", "login")
+                .tag("outcome", "success")
+                .timer()
+                .count());
+    }
+
+    @Test
+    void shouldTagOutcomeOfFailedOperation() {
+        // Given
+        LoginUseCase target = mock(LoginUseCase.class);
+        when(target.login("ana@example.com", "wrong")).thenThrow(new InvalidCredentialsException("ana@example.com"));
+        LoginUseCase loginUseCase = proxy(target);
+
+        // When
+        assertThrows(InvalidCredentialsException.class, () -> loginUseCase.login("ana@example.com", "wrong"));
+
+        // Then
+        assertEquals(1, meterRegistry.get("usecase.duration")
+                .tag("outcome", "invalid-credentials")
+                .tag("exception", "InvalidCredentialsException")
+                .timer()
+                .count());
+    }
+
+    @Test
+    void shouldTimeReactiveOperationWhenMonoTerminates() {
+        // Given
+        ReactiveUserReadUseCase target = mock(ReactiveUserReadUseCase.class);
+        when(target.getUserProfile(1L)).thenReturn(Mono.error(new UserNotFoundException(1L)));
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new UseCaseMetricsAspect(meterRegistry));
+        ReactiveUserReadUseCase reactiveUserRead = factory.getProxy();
+
+        // When
+        Mono<?> profile = reactiveUserRead.getUserProfile(1L);
+
+        // Then: no se registra hasta que el Mono termina
+        assertNull(meterRegistry.find("usecase.duration").timer());
+        assertThrows(UserNotFoundException.class, profile::block);
+        assertEquals(1, meterRegistry.get("usecase.duration")
+                .tag("usecase", "ReactiveUserReadUseCase")
+                .tag("outcome", "not-found")
+                .timer()
+                .count());
+    }
+
+    @Test
+    void shouldClassifyExceptionsLikeTheirHttpResponses() {
+        assertEquals("not-found", UseCaseMetricsAspect.outcome(new UserNotFoundException(1L)));
+        assertEquals("conflict", UseCaseMetricsAspect.outcome(new ConcurrentUpdateException("usuario", 1L)));
+        assertEquals("conflict", UseCaseMetricsAspect.outcome(new OptimisticLockingFailureException("stale")));
+        assertEquals("invalid", UseCaseMetricsAspect.outcome(new IllegalArgumentException("bad")));
+        assertEquals("error", UseCaseMetricsAspect.outcome(new IllegalStateException("boom")));
+    }
+
+    private LoginUseCase proxy(LoginUseCase target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new UseCaseMetricsAspect(meterRegistry));
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,61 @@
+package com.yourteacher.userservice.infrastructure.security;
+
+import com.yourteacher.userservice.domain.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para la lista de revocación de tokens en memoria
+ */
+class InMemoryTokenRevocationListTest {
+
+    private final InMemoryTokenRevocationList revocationList = new InMemoryTokenRevocationList(60_000);
+
+    @Test
+    void shouldNotRevokeTokensOfUnknownUser() {
+        assertFalse(revocationList.isRevoked(1L, 0L));
+    }
+
+    @Test
+    void shouldRevokeOnlyTokensOlderThanUserState() {
+        User user = userUpdatedAt(LocalDateTime.of(2025, 1, 1, 12, 0));
+
+        revocationList.revokeOlderThan(user);
+
+        assertTrue(revocationList.isRevoked(1L, user.getStateVersion() - 1));
+        assertFalse(revocationList.isRevoked(1L, user.getStateVersion()));
+    }
+
+    @Test
+    void shouldKeepNewestRevocationVersion() {
+        User newer = userUpdatedAt(LocalDateTime.of(2025, 1, 2, 12, 0));
+        User older = userUpdatedAt(LocalDateTime.of(2025, 1, 1, 12, 0));
+
+        revocationList.revokeOlderThan(newer);
+        revocationList.revokeOlderThan(older);
+
+        assertTrue(revocationList.isRevoked(1L, older.getStateVersion()));
+    }
+
+    @Test
+    void shouldRevokeAllTokensOfDeletedUser() {
+        revocationList.revokeAll(1L);
+
+        assertTrue(revocationList.isRevoked(1L, Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    void shouldTreatTokenWithoutUserAsRevoked() {
+        assertTrue(revocationList.isRevoked(null, 0L));
+    }
+
+    private User userUpdatedAt(LocalDateTime updatedAt) {
+        return User.builder()
+                .id(1L)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
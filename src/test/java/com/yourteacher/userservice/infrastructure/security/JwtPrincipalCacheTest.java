@@ -0,0 +1,101 @@
+package com.yourteacher.userservice.infrastructure.security;
+
+import com.yourteacher.userservice.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para la caché de principales autenticados
+ */
+class JwtPrincipalCacheTest {
+
+    private JwtPrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JwtPrincipalCache(Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    void shouldReturnCachedPrincipalForSameUserAndEmail() {
+        cache.put(principal(1L, "test@example.com"), cache.generation(1L));
+
+        assertTrue(cache.get(1L, "test@example.com").isPresent());
+    }
+
+    @Test
+    void shouldNotReturnPrincipalWhenEmailDiffers() {
+        cache.put(principal(1L, "old@example.com"), cache.generation(1L));
+
+        assertTrue(cache.get(1L, "new@example.com").isEmpty());
+    }
+
+    @Test
+    void shouldNotReturnPrincipalAfterEviction() {
+        cache.put(principal(1L, "test@example.com"), cache.generation(1L));
+
+        cache.evict(1L);
+
+        assertTrue(cache.get(1L, "test@example.com").isEmpty());
+    }
+
+    @Test
+    void shouldNotCachePrincipalLoadedBeforeAfterCommitEviction() {
+        // Given: una transacción invalida el usuario y aún no ha hecho commit
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(1L);
+
+            // Una request lee la generación y carga el estado anterior al commit
+            long generation = cache.generation(1L);
+            AuthenticatedPrincipal stale = principal(1L, "test@example.com");
+
+            // When: commit (invalidación afterCommit) y después la request cachea lo leído
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            boolean stored = cache.put(stale, generation);
+
+            // Then
+            assertFalse(stored);
+            assertTrue(cache.get(1L, "test@example.com").isEmpty());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldCachePrincipalLoadedAfterEviction() {
+        // Given
+        long before = cache.generation(1L);
+        cache.evict(1L);
+
+        // When
+        boolean stale = cache.put(principal(1L, "test@example.com"), before);
+        boolean fresh = cache.put(principal(1L, "test@example.com"), cache.generation(1L));
+
+        // Then
+        assertFalse(stale);
+        assertTrue(fresh);
+        assertTrue(cache.get(1L, "test@example.com").isPresent());
+    }
+
+    @Test
+    void shouldIgnoreNullUserId() {
+        assertTrue(cache.get(null, "test@example.com").isEmpty());
+        assertDoesNotThrow(() -> cache.evict(null));
+    }
+
+    private AuthenticatedPrincipal principal(Long id, String email) {
+        User user = User.builder()
+                .id(id)
+                .email(email)
+                .build();
+        return new AuthenticatedPrincipal(user, List.of());
+    }
+}
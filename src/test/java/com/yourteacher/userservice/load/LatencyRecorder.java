@@ -0,0 +1,81 @@
+package com.yourteacher.userservice.load;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Acumula las latencias y los códigos de estado de un endpoint durante la prueba de carga
+ * Guarda todas las muestras (una prueba de minutos son decenas de miles) para
+ * calcular percentiles exactos al final.
+ */
+final class LatencyRecorder {
+
+    private final String endpoint;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+    private final Map<String, Integer> statuses = new TreeMap<>();
+
+    LatencyRecorder(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Registra una petición terminada
+     *
+     * @param latencyNanos Tiempo desde el instante en que la petición debía enviarse
+     * @param status Código HTTP, o el nombre de la excepción si no hubo respuesta
+     * @param error true si la respuesta no fue la esperada
+     */
+    synchronized void record(long latencyNanos, String status, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (error) {
+            errors++;
+        }
+        statuses.merge(status, 1, Integer::sum);
+    }
+
+    synchronized EndpointResult result(double measuredSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new EndpointResult(
+                endpoint,
+                count,
+                errors,
+                count == 0 ? 0 : (double) errors / count,
+                count / measuredSeconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.95),
+                percentileMillis(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1] / 1_000_000.0,
+                new TreeMap<>(statuses));
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    /**
+     * Resultado de un endpoint tal y como se publica en el informe JSON
+     */
+    record EndpointResult(
+            String endpoint,
+            long requests,
+            long errors,
+            double errorRate,
+            double throughput,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs,
+            Map<String, Integer> statuses) {
+    }
+}
@@ -0,0 +1,367 @@
+package com.yourteacher.userservice.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourteacher.userservice.UserServiceApplication;
+import com.yourteacher.userservice.load.LatencyRecorder.EndpointResult;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Prueba de carga de extremo a extremo contra una instancia embebida del servicio
+ *
+ * Arranca UserServiceApplication con H2 en memoria, registra los usuarios de la
+ * prueba a través de la API y lanza peticiones a un ritmo fijo (modelo abierto):
+ * cada petición tiene un instante de envío programado y su latencia se mide desde
+ * ese instante, de modo que las esperas en cola del cliente cuando el servicio no
+ * da abasto también cuentan. No necesita red ni servicios externos.
+ *
+ * Las opciones de la prueba son propiedades load.* (ej: --load.rate=200); el resto
+ * de argumentos se pasan tal cual al servicio (ej: --security.password-hashing.strength=10).
+ *
+ * mvn -Pload-test -DskipTests verify -Dload.args="--load.rate=200 --load.duration=60s"
+ */
+public final class LoadTestRunner {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final long NATIVE_LANGUAGE_ID = 2L;
+    private static final long FIRST_LEARNING_LANGUAGE_ID = 3L;
+    private static final int LEARNING_LANGUAGES = 10;
+
+    /**
+     * Configuración del servicio durante la prueba. Se aplica como propiedades del
+     * sistema: tiene prioridad sobre application.yml, pero no sobre los argumentos.
+     */
+    private static final Map<String, String> SERVICE_DEFAULTS = Map.of(
+            "server.port", "0",
+            "spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+            "spring.jpa.show-sql", "false",
+            "spring.h2.console.enabled", "false",
+            "logging.level.root", "WARN",
+            "logging.level.com.yourteacher.userservice", "WARN",
+            "logging.level.org.springframework.security", "WARN",
+            "logging.level.org.hibernate.SQL", "WARN");
+
+    /**
+     * Operaciones de la mezcla de carga con su peso por defecto (sobre 100)
+     * Cada peso se puede cambiar con load.mix.<clave>, ej: --load.mix.login=30
+     */
+    enum Operation {
+        LOGIN("login", 10),
+        REGISTER("register", 4),
+        PROFILE("profile", 25),
+        USER_LANGUAGES("user-languages", 10),
+        LANGUAGE_CHANGE("language-change", 14),
+        CATALOG("catalog", 27),
+        CATALOG_STARTING("catalog-starting", 10);
+
+        private final String key;
+        private final int defaultWeight;
+
+        Operation(String key, int defaultWeight) {
+            this.key = key;
+            this.defaultWeight = defaultWeight;
+        }
+    }
+
+    @FunctionalInterface
+    private interface HttpCall {
+        HttpResponse<byte[]> send() throws IOException, InterruptedException;
+    }
+
+    private record Call(String endpoint, int expectedStatus, HttpCall httpCall) {
+    }
+
+    private record SeededUser(long id, String email, String token) {
+    }
+
+    record LoadTestReport(
+            String label,
+            Instant startedAt,
+            String javaVersion,
+            int processors,
+            boolean virtualThreads,
+            double targetRate,
+            long durationSeconds,
+            long warmupSeconds,
+            int users,
+            Map<String, Integer> mix,
+            EndpointResult total,
+            List<EndpointResult> endpoints) {
+    }
+
+    private final LoadTestClient client;
+    private final ObjectMapper objectMapper;
+    private final List<SeededUser> users = new ArrayList<>();
+    private final Set<String> addedLanguages = new HashSet<>();
+    private final AtomicInteger registrations = new AtomicInteger();
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private final LatencyRecorder total = new LatencyRecorder("total");
+
+    private LoadTestRunner(LoadTestClient client, ObjectMapper objectMapper) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+    }
+
+    public static void main(String[] args) throws Exception {
+        SERVICE_DEFAULTS.forEach((key, value) -> {
+            if (System.getProperty(key) == null) {
+                System.setProperty(key, value);
+            }
+        });
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .run(args);
+        try {
+            Environment environment = context.getEnvironment();
+            int port = environment.getRequiredProperty("local.server.port", Integer.class);
+            ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+            LoadTestRunner runner = new LoadTestRunner(
+                    new LoadTestClient("http://localhost:" + port, objectMapper), objectMapper);
+            runner.run(environment);
+        } finally {
+            context.close();
+        }
+    }
+
+    private void run(Environment environment) throws Exception {
+        double rate = environment.getProperty("load.rate", Double.class, 100.0);
+        Duration duration = environment.getProperty("load.duration", Duration.class, Duration.ofSeconds(60));
+        Duration warmup = environment.getProperty("load.warmup", Duration.class, Duration.ofSeconds(10));
+        int userCount = environment.getProperty("load.users", Integer.class, 50);
+        int maxConcurrency = environment.getProperty("load.max-concurrency", Integer.class, 200);
+        long seed = environment.getProperty("load.seed", Long.class, 42L);
+        String label = environment.getProperty("load.label", "default");
+        Path output = Path.of(environment.getProperty("load.output", "target/load-test-result.json"));
+        if (rate <= 0 || userCount < 1 || maxConcurrency < 1) {
+            throw new IllegalArgumentException("load.rate, load.users y load.max-concurrency deben ser positivos");
+        }
+
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        Map<String, Integer> mixByKey = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            int weight = environment.getProperty("load.mix." + operation.key, Integer.class, operation.defaultWeight);
+            mix.put(operation, weight);
+            mixByKey.put(operation.key, weight);
+        }
+
+        System.out.printf("Seeding %d users...%n", userCount);
+        seedUsers(userCount);
+
+        System.out.printf("Running %.1f req/s for %ds (+%ds warm-up) with mix %s%n",
+                rate, duration.toSeconds(), warmup.toSeconds(), mixByKey);
+        Instant startedAt = Instant.now();
+        drive(rate, duration, warmup, maxConcurrency, mix, new SplittableRandom(seed));
+
+        double measuredSeconds = duration.toNanos() / 1e9;
+        List<EndpointResult> endpoints = recorders.values().stream()
+                .map(recorder -> recorder.result(measuredSeconds))
+                .sorted((a, b) -> a.endpoint().compareTo(b.endpoint()))
+                .toList();
+        LoadTestReport report = new LoadTestReport(
+                label,
+                startedAt,
+                System.getProperty("java.version"),
+                Runtime.getRuntime().availableProcessors(),
+                environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false),
+                rate,
+                duration.toSeconds(),
+                warmup.toSeconds(),
+                userCount,
+                mixByKey,
+                total.result(measuredSeconds),
+                endpoints);
+
+        print(report);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+        System.out.println("Load test result is saved to " + output.toAbsolutePath());
+    }
+
+    /**
+     * Registra los usuarios de la prueba (en paralelo: cada alta es un hash BCrypt)
+     * y les asigna el mismo idioma nativo
+     */
+    private void seedUsers(int userCount) throws Exception {
+        ExecutorService seeders = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<SeededUser>> futures = new ArrayList<>(userCount);
+            for (int i = 0; i < userCount; i++) {
+                String email = "seed-" + i + "@loadtest.dev";
+                futures.add(seeders.submit(() -> {
+                    JsonNode login = client.register(email, PASSWORD);
+                    SeededUser user = new SeededUser(
+                            login.get("userId").asLong(), email, login.get("token").asText());
+                    String languages = "/api/v1/users/" + user.id() + "/languages";
+                    client.expect(client.post(languages, Map.of("languageId", NATIVE_LANGUAGE_ID), user.token()), 201);
+                    client.expect(client.patch(languages + "/" + NATIVE_LANGUAGE_ID + "/native", user.token()), 204);
+                    return user;
+                }));
+            }
+            for (Future<SeededUser> future : futures) {
+                users.add(future.get());
+            }
+        } finally {
+            seeders.shutdown();
+        }
+    }
+
+    /**
+     * Programa las peticiones a intervalos fijos durante el calentamiento y la medición
+     * Solo se registran las peticiones programadas después del calentamiento.
+     */
+    private void drive(double rate, Duration duration, Duration warmup, int maxConcurrency,
+                       Map<Operation, Integer> mix, SplittableRandom random) throws InterruptedException {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("La suma de los pesos load.mix.* debe ser positiva");
+        }
+        AtomicInteger workerCount = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "load-worker-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        double intervalNanos = 1e9 / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long scheduledAt = start + (long) (i * intervalNanos);
+            if (scheduledAt >= end) {
+                break;
+            }
+            long wait = scheduledAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Call call = nextCall(pick(mix, totalWeight, random), random);
+            boolean measured = scheduledAt >= measureFrom;
+            workers.execute(() -> execute(call, scheduledAt, measured));
+        }
+
+        workers.shutdown();
+        if (!workers.awaitTermination(2, TimeUnit.MINUTES)) {
+            System.out.println("Some requests were still running after 2 minutes and are not reported");
+            workers.shutdownNow();
+        }
+    }
+
+    private Operation pick(Map<Operation, Integer> mix, int totalWeight, SplittableRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Mezcla de carga vacía");
+    }
+
+    private Call nextCall(Operation operation, SplittableRandom random) {
+        SeededUser user = users.get(random.nextInt(users.size()));
+        String userPath = "/api/v1/users/" + user.id();
+        return switch (operation) {
+            case LOGIN -> new Call("POST /auth/login", 200, () -> client.post(
+                    "/api/v1/auth/login", Map.of("email", user.email(), "password", PASSWORD), null));
+            case REGISTER -> {
+                String email = "load-" + registrations.incrementAndGet() + "@loadtest.dev";
+                yield new Call("POST /auth/register", 201, () -> client.post("/api/v1/auth/register", Map.of(
+                        "email", email,
+                        "password", PASSWORD,
+                        "firstName", "Load",
+                        "lastName", "Tester"), null));
+            }
+            case PROFILE -> new Call("GET /users/{id}/profile", 200,
+                    () -> client.get(userPath + "/profile", user.token()));
+            case USER_LANGUAGES -> new Call("GET /users/{id}/languages", 200,
+                    () -> client.get(userPath + "/languages", user.token()));
+            case LANGUAGE_CHANGE -> {
+                // Alterna cada idioma entre añadido y eliminado para que ambas operaciones tengan éxito
+                long languageId = FIRST_LEARNING_LANGUAGE_ID + random.nextInt(LEARNING_LANGUAGES);
+                String key = user.id() + ":" + languageId;
+                if (addedLanguages.add(key)) {
+                    yield new Call("POST /users/{id}/languages", 201, () -> client.post(
+                            userPath + "/languages", Map.of("languageId", languageId), user.token()));
+                }
+                addedLanguages.remove(key);
+                yield new Call("DELETE /users/{id}/languages/{languageId}", 204,
+                        () -> client.delete(userPath + "/languages/" + languageId, user.token()));
+            }
+            case CATALOG -> new Call("GET /languages", 200, () -> client.get("/api/v1/languages", null));
+            case CATALOG_STARTING -> new Call("GET /languages/starting", 200,
+                    () -> client.get("/api/v1/languages/starting", null));
+        };
+    }
+
+    private void execute(Call call, long scheduledAt, boolean measured) {
+        String status;
+        boolean error;
+        try {
+            int statusCode = call.httpCall().send().statusCode();
+            status = String.valueOf(statusCode);
+            error = statusCode != call.expectedStatus();
+        } catch (IOException e) {
+            status = e.getClass().getSimpleName();
+            error = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (measured) {
+            long latency = System.nanoTime() - scheduledAt;
+            recorders.computeIfAbsent(call.endpoint(), LatencyRecorder::new).record(latency, status, error);
+            total.record(latency, status, error);
+        }
+    }
+
+    private static void print(LoadTestReport report) {
+        String format = "%-42s %9s %8s %9s %9s %9s %9s %9s%n";
+        System.out.println();
+        System.out.printf(format, "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "Max ms");
+        for (EndpointResult result : report.endpoints()) {
+            printRow(format, result);
+        }
+        printRow(format, report.total());
+        System.out.println();
+    }
+
+    private static void printRow(String format, EndpointResult result) {
+        System.out.printf(format,
+                result.endpoint(),
+                result.requests(),
+                String.format("%.2f%%", result.errorRate() * 100),
+                String.format("%.1f", result.throughput()),
+                String.format("%.1f", result.p50Ms()),
+                String.format("%.1f", result.p95Ms()),
+                String.format("%.1f", result.p99Ms()),
+                String.format("%.1f", result.maxMs()));
+    }
+}